@@ -0,0 +1,56 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.model.Review;
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.collection.spi.PersistentList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Catalog-shaped variations on the shared {@link ProductFixtures} for the benchmarks. Collections are wrapped the way Hibernate hands them out of a session,
+ * so copying them costs what it costs on a real read.
+ */
+final class BenchmarkProducts {
+    private static final String[] CATEGORIES = {"beauty", "fragrances", "furniture", "groceries", "laptops", "smartphones"};
+    private static final String[] ADJECTIVES = {"classic", "compact", "deluxe", "eco", "essential", "luxury", "modern",
+            "portable", "premium", "smart", "vintage", "wireless"};
+    /**
+     * Nouns products are titled with; keyword benchmarks search for these.
+     */
+    static final String[] NOUNS = {"backpack", "blender", "chair", "headphones", "lamp", "lipstick", "mascara",
+            "notebook", "perfume", "sofa", "speaker", "watch"};
+
+    private BenchmarkProducts() {
+    }
+
+    /**
+     * @param id the product ID, which also drives the category, price and stock
+     * @param reviews how many reviews to attach
+     * @return an initialized product as it would come out of the repository
+     */
+    static Product product(long id, int reviews) {
+        Product product = ProductFixtures.product(id, "Benchmark", reviews);
+        String category = CATEGORIES[(int) (id % CATEGORIES.length)];
+        List<Review> reviewList = product.getReviews();
+        for (int i = 0; i < reviewList.size(); i++) {
+            reviewList.get(i).setId(id * 100 + i);
+        }
+        product.setVersion(0L);
+        product.setTitle(ADJECTIVES[(int) (id % ADJECTIVES.length)] + " " + NOUNS[(int) (id / ADJECTIVES.length % NOUNS.length)] + " " + id);
+        product.setDescription("A " + NOUNS[(int) (id % NOUNS.length)] + " with a description about as long as the ones in the catalog feed.");
+        product.setCategory(category);
+        product.setPrice(9.99 + id % 1000);
+        product.setStock(id % 100);
+        product.setAvailabilityStatus(id % 10 == 0 ? "Low Stock" : "In Stock");
+        product.setTags(new PersistentList<>(null, new ArrayList<>(List.of(category, NOUNS[(int) (id % NOUNS.length)], "tag-" + id % 50))));
+        product.setReviews(new PersistentBag<>(null, reviewList));
+        product.setImages(new PersistentList<>(null, new ArrayList<>(List.of(
+                "https://cdn.dummyjson.com/products/images/" + id + "/1.png",
+                "https://cdn.dummyjson.com/products/images/" + id + "/2.png",
+                "https://cdn.dummyjson.com/products/images/" + id + "/3.png"))));
+        return product;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the JMH benchmarks of this package with the GC profiler, so every score comes with its allocation per call.
+ * Only compiled and run by the benchmark profile. Results are written as JSON to {@code benchmark.result}
+ * (target/benchmark/jmh-result.json by default); keep the file of each build to compare them:
+ * <pre>
+ * mvn test -Pbenchmark
+ * mvn test -Pbenchmark -Dbenchmark.include=ProductMapperBenchmark -Dbenchmark.result=baseline.json
+ * </pre>
+ * The search and repository suites run on a generated catalog of {@code benchmark.catalog-size} products, see
+ * {@link CatalogState}.
+ */
+@Tag("benchmark")
+class BenchmarkRunnerTest {
+
+    @Test
+    void runBenchmarks() throws IOException, RunnerException {
+        Path results = Path.of(System.getProperty("benchmark.result", "target/benchmark/jmh-result.json")).toAbsolutePath();
+        Files.createDirectories(results.getParent());
+
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", getClass().getPackageName() + ".*Benchmark"))
+                .jvmArgsAppend("-Dbenchmark.catalog-size=" + CatalogState.CATALOG_SIZE)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+
+        assertFalse(new Runner(options).run().isEmpty(), "no benchmark matched");
+    }
+}
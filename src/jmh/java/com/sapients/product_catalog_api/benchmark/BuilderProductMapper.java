@@ -0,0 +1,82 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.dto.DimensionsDTO;
+import com.sapients.product_catalog_api.dto.MetaDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.model.Review;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The builder-based {@code toDTO} that {@link com.sapients.product_catalog_api.mapper.impl.ProductMapperImpl}
+ * used before, kept as the baseline for {@link ProductMapperBenchmark}.
+ */
+final class BuilderProductMapper {
+
+    ProductDTO toDTO(Product product) {
+        if ( product == null ) {
+            return null;
+        }
+
+        ProductDTO.ProductDTOBuilder productDTO = ProductDTO.builder();
+
+        productDTO.id( product.getId() );
+        productDTO.version( product.getVersion() );
+        productDTO.title( product.getTitle() );
+        productDTO.description( product.getDescription() );
+        productDTO.category( product.getCategory() );
+        productDTO.price( product.getPrice() );
+        productDTO.discountPercentage( product.getDiscountPercentage() );
+        productDTO.rating( product.getRating() );
+        productDTO.stock( product.getStock() );
+        List<String> list = product.getTags();
+        if ( list != null ) {
+            productDTO.tags( new ArrayList<String>( list ) );
+        }
+        productDTO.sku( product.getSku() );
+        productDTO.weight( product.getWeight() );
+        if ( product.getDimensions() != null ) {
+            productDTO.dimensions( DimensionsDTO.builder()
+                    .width( product.getDimensions().getWidth() )
+                    .height( product.getDimensions().getHeight() )
+                    .depth( product.getDimensions().getDepth() )
+                    .build() );
+        }
+        productDTO.warrantyInformation( product.getWarrantyInformation() );
+        productDTO.shippingInformation( product.getShippingInformation() );
+        productDTO.availabilityStatus( product.getAvailabilityStatus() );
+        if ( product.getReviews() != null ) {
+            List<ReviewDTO> reviews = new ArrayList<ReviewDTO>( product.getReviews().size() );
+            for ( Review review : product.getReviews() ) {
+                reviews.add( ReviewDTO.builder()
+                        .rating( review.getRating() )
+                        .comment( review.getComment() )
+                        .date( review.getDate() )
+                        .reviewerName( review.getReviewerName() )
+                        .reviewerEmail( review.getReviewerEmail() )
+                        .build() );
+            }
+            productDTO.reviews( reviews );
+        }
+        productDTO.returnPolicy( product.getReturnPolicy() );
+        productDTO.minimumOrderQuantity( product.getMinimumOrderQuantity() );
+        if ( product.getMeta() != null ) {
+            productDTO.meta( MetaDTO.builder()
+                    .createdAt( product.getMeta().getCreatedAt() )
+                    .updatedAt( product.getMeta().getUpdatedAt() )
+                    .barcode( product.getMeta().getBarcode() )
+                    .qrCode( product.getMeta().getQrCode() )
+                    .build() );
+        }
+        List<String> list2 = product.getImages();
+        if ( list2 != null ) {
+            productDTO.images( new ArrayList<String>( list2 ) );
+        }
+        productDTO.thumbnail( product.getThumbnail() );
+
+        return productDTO.build();
+    }
+}
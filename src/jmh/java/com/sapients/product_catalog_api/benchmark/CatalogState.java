@@ -0,0 +1,83 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.ProductCatalogApiApplication;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.ProductMapper;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.service.ProductIngestService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The application without its web server, on a generated catalog of {@code benchmark.catalog-size} products (100k by
+ * default). Database and search index are kept on disk under target/benchmark, so the catalog is generated once and
+ * reused by every fork and later run until {@code mvn clean}.
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+    static final int CATALOG_SIZE = Integer.getInteger("benchmark.catalog-size", 100_000);
+    private static final int INGEST_SLICE = 10_000;
+    private static final int KEYS = 1024;
+
+    ConfigurableApplicationContext context;
+    final long[] ids = new long[KEYS];
+    final String[] skus = new String[KEYS];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        String dataDir = "./target/benchmark/catalog-" + CATALOG_SIZE;
+        context = new SpringApplicationBuilder(ProductCatalogApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:file:" + dataDir + "/db",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--product.search.index-root=" + dataDir + "/index",
+                        "--logging.file.name=target/benchmark/application.log",
+                        "--logging.level.com.sapients.product_catalog_api=WARN");
+        generateCatalog();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < KEYS; i++) {
+            ids[i] = 1 + random.nextInt(CATALOG_SIZE);
+            skus[i] = "BENCHMARK-" + ids[i];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * Ingests whatever part of the catalog is not in the database yet; automatic indexing keeps the index in step.
+     */
+    private void generateCatalog() {
+        long existing = context.getBean(ProductRepository.class).count();
+        ProductMapper mapper = context.getBean(ProductMapper.class);
+        ProductIngestService ingestService = context.getBean(ProductIngestService.class);
+        for (long from = existing + 1; from <= CATALOG_SIZE; from += INGEST_SLICE) {
+            List<ProductDTO> slice = new ArrayList<>(INGEST_SLICE);
+            for (long id = from; id < from + INGEST_SLICE && id <= CATALOG_SIZE; id++) {
+                slice.add(mapper.toDTO(BenchmarkProducts.product(id, 3)));
+            }
+            ingestService.ingest(slice);
+        }
+    }
+
+    /**
+     * @return the index of the next pre-drawn random key, cycling through {@link #ids} and {@link #skus}
+     */
+    int nextKey() {
+        return next++ & (KEYS - 1);
+    }
+}
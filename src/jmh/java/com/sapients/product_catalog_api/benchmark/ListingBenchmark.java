@@ -0,0 +1,57 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.CursorPageDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One keyset page of 50 products after a random cursor of the generated catalog: full products, loaded and mapped
+ * inside a read-only transaction standing in for the request-scoped session of the web layer, against summaries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListingBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    private ProductService productService;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp(CatalogState catalog) {
+        productService = catalog.context.getBean(ProductService.class);
+        readOnlyTransaction = new TransactionTemplate(catalog.context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<CursorPageDTO<ProductDTO>>> fullPage(CatalogState catalog) {
+        long after = catalog.ids[catalog.nextKey()];
+        return readOnlyTransaction.execute(status -> productService.getAllProducts(after, PAGE_SIZE, null));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<CursorPageDTO<ProductSummaryDTO>>> summaryPage(CatalogState catalog) {
+        return productService.getProductSummaries(catalog.ids[catalog.nextKey()], PAGE_SIZE);
+    }
+}
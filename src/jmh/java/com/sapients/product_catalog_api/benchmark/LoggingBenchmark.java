@@ -0,0 +1,118 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.impl.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The logging a product read does, around a few microseconds of simulated request work, through a file appender
+ * with the application's file pattern:
+ * <ul>
+ * <li>{@code graph}: the INFO lines reads used to write, including the product's {@code toString()};</li>
+ * <li>{@code ids}: the DEBUG lines with IDs that replaced them (disabled at INFO) and the sampled request summary.</li>
+ * </ul>
+ * Each is run against the file appender written synchronously and behind an {@link AsyncAppender} configured as in
+ * logback-spring.xml. When the writer cannot keep up, the async appender drops INFO events as it does in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+    private static final String FILE_PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+    private static final long REQUEST_WORK_TOKENS = 2_000;
+    private static final double SUMMARY_SAMPLE_RATE = 0.01;
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    @Param({"graph", "ids"})
+    private String payload;
+
+    private LoggerContext loggerContext;
+    private Logger log;
+    private ProductDTO product;
+
+    @Setup
+    public void setUp() {
+        loggerContext = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(FILE_PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(loggerContext);
+        file.setFile("target/benchmark/logging/" + appender + "-" + payload + ".log");
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.addAppender(file);
+            async.start();
+            root = async;
+        }
+
+        log = loggerContext.getLogger(LoggingBenchmark.class);
+        log.setLevel(Level.INFO);
+        log.addAppender(root);
+        log.setAdditive(false);
+
+        product = new ProductMapperImpl().toDTO(BenchmarkProducts.product(1L, 3));
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void productRead() {
+        Long id = product.getId();
+        if ("graph".equals(payload)) {
+            log.info("Fetching product by ID: {}", id);
+            Blackhole.consumeCPU(REQUEST_WORK_TOKENS);
+            log.info("Product found: {}", product);
+        } else {
+            long start = System.nanoTime();
+            log.debug("Fetching product by ID: {}", id);
+            Blackhole.consumeCPU(REQUEST_WORK_TOKENS);
+            log.debug("Product found with ID: {}", id);
+            if (ThreadLocalRandom.current().nextDouble() < SUMMARY_SAMPLE_RATE) {
+                log.info("method={} path={} status={} durationMs={}", "GET", "/api/products/1", 200,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+        }
+    }
+}
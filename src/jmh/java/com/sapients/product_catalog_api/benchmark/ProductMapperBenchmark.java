@@ -0,0 +1,64 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.impl.ProductMapperImpl;
+import com.sapients.product_catalog_api.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of one product in both directions. {@code toDTO} is also run against the builder-based mapper it replaced;
+ * compare the {@code ns/op} scores and the {@code gc.alloc.rate.norm} (bytes per call) lines of the two.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMapperBenchmark {
+    /**
+     * Catalog products carry three reviews; the larger size shows how the per-review cost of {@code toModel} and of the
+     * builder baseline scales. {@code toDTO} leaves reviews out.
+     */
+    @Param({"3", "20"})
+    private int reviews;
+
+    private final ProductMapperImpl mapper = new ProductMapperImpl();
+    private final BuilderProductMapper builderMapper = new BuilderProductMapper();
+    private Product product;
+    private ProductDTO productDTO;
+
+    @Setup
+    public void setUp() {
+        product = BenchmarkProducts.product(1L, reviews);
+        productDTO = mapper.toDTO(product);
+        productDTO.setReviews(mapper.toReviewDTOs(product.getReviews()));
+    }
+
+    @Benchmark
+    public ProductDTO toDTO() {
+        return mapper.toDTO(product);
+    }
+
+    @Benchmark
+    public ProductDTO toDTOWithBuilders() {
+        return builderMapper.toDTO(product);
+    }
+
+    @Benchmark
+    public Product toModel() {
+        return mapper.toModel(productDTO);
+    }
+}
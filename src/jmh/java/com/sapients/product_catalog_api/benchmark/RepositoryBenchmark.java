@@ -0,0 +1,46 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-product repository lookups at random keys of the generated catalog, each in its own read-only transaction,
+ * as the uncached read paths do. Reviews are not fetched, since reads do not map them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+    private ProductRepository productRepository;
+
+    @Setup
+    public void setUp(CatalogState catalog) {
+        productRepository = catalog.context.getBean(ProductRepository.class);
+    }
+
+    @Benchmark
+    public Optional<Product> findById(CatalogState catalog) {
+        return productRepository.findById(catalog.ids[catalog.nextKey()]);
+    }
+
+    @Benchmark
+    public Optional<Product> findBySku(CatalogState catalog) {
+        return productRepository.findBySku(catalog.skus[catalog.nextKey()]);
+    }
+}
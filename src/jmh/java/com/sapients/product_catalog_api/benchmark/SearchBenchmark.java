@@ -0,0 +1,91 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSearchFilterDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.dto.SearchPageDTO;
+import com.sapients.product_catalog_api.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate Search queries against the index of the generated catalog, one page of 20 hits per call. Full hits load
+ * and map the entities inside a read-only transaction, standing in for the request-scoped session of the web layer;
+ * summaries are projected from the index alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private ProductService productService;
+    private TransactionTemplate readOnlyTransaction;
+    private ProductSearchFilterDTO[] keywordFilters;
+    private ProductSearchFilterDTO[] facetedFilters;
+    private int next;
+
+    @Setup
+    public void setUp(CatalogState catalog) {
+        productService = catalog.context.getBean(ProductService.class);
+        readOnlyTransaction = new TransactionTemplate(catalog.context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        int nouns = BenchmarkProducts.NOUNS.length;
+        keywordFilters = new ProductSearchFilterDTO[nouns];
+        facetedFilters = new ProductSearchFilterDTO[nouns];
+        for (int i = 0; i < nouns; i++) {
+            keywordFilters[i] = ProductSearchFilterDTO.builder().keyword(BenchmarkProducts.NOUNS[i]).build();
+            facetedFilters[i] = ProductSearchFilterDTO.builder()
+                    .keyword(BenchmarkProducts.NOUNS[i])
+                    .minPrice(50.0)
+                    .inStock(true)
+                    .sort("-rating")
+                    .facets(true)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<SearchPageDTO<ProductDTO>>> keywordSearch() {
+        ProductSearchFilterDTO filter = keywordFilters[nextFilter()];
+        return readOnlyTransaction.execute(status -> productService.searchProducts(filter, 0, PAGE_SIZE, null));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<SearchPageDTO<ProductSummaryDTO>>> keywordSearchSummaries() {
+        return productService.searchProductSummaries(keywordFilters[nextFilter()], 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<SearchPageDTO<ProductSummaryDTO>>> filteredSearchWithFacets() {
+        return productService.searchProductSummaries(facetedFilters[nextFilter()], 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<List<ProductSummaryDTO>>> autocomplete() {
+        return productService.autocompleteProducts(BenchmarkProducts.NOUNS[nextFilter()].substring(0, 3), 10);
+    }
+
+    private int nextFilter() {
+        return next++ % BenchmarkProducts.NOUNS.length;
+    }
+}
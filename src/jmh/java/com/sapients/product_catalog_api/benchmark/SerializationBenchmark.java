@@ -0,0 +1,62 @@
+package com.sapients.product_catalog_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.impl.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a page of products as the controller returns it, with the object mapper configured the way
+ * Spring Boot configures it. Writes to a discarding stream, like a response body, so no byte array is kept.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    /**
+     * The default and the maximum page size.
+     */
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final OutputStream body = StreamUtils.nonClosing(OutputStream.nullOutputStream());
+    private ApiResponse<List<ProductDTO>> response;
+
+    @Setup
+    public void setUp() {
+        ProductMapperImpl mapper = new ProductMapperImpl();
+        List<ProductDTO> products = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            products.add(mapper.toDTO(BenchmarkProducts.product(id, 3)));
+        }
+        response = new ApiResponse<>(true, "Products fetched successfully", products);
+    }
+
+    @Benchmark
+    public void writeProductPage() throws IOException {
+        objectMapper.writeValue(body, response);
+    }
+}
@@ -0,0 +1,105 @@
+package com.sapients.product_catalog_api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.sapients.product_catalog_api.dto.CacheStatsDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, read-through cache of mapped products, keyed by ID. SKU lookups resolve the ID through
+ * {@link ProductSkuIndex} first.
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Long, ProductDTO> productsById;
+    private final ProductSkuIndex productSkuIndex;
+
+    public ProductCache(ProductSkuIndex productSkuIndex,
+                        @Value("${product.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${product.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                        MeterRegistry meterRegistry) {
+        this.productSkuIndex = productSkuIndex;
+        this.productsById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats(() -> statsCounter)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, productsById, "products");
+    }
+
+    /**
+     * Returns the cached product with the given ID, loading and caching it on a miss.
+     * @param id the ID of the product
+     * @param loader loads the product on a miss, returning null when it does not exist
+     * @return the product, or null when it does not exist
+     */
+    public ProductDTO getById(Long id, Function<Long, ProductDTO> loader) {
+        return productsById.get(id, loader);
+    }
+
+    /**
+     * Returns the cached product with the given ID without loading it or counting a hit or miss.
+     * @param id the ID of the product
+     * @return the product, or null when it is not cached
+     */
+    public ProductDTO peek(Long id) {
+        return productsById.policy().getIfPresentQuietly(id);
+    }
+
+    /**
+     * Evicts a product, now and again once the current transaction (if any) commits.
+     * @param id the ID of the product
+     */
+    public void evict(Long id) {
+        Runnable eviction = () -> productsById.invalidate(id);
+        eviction.run();
+        afterCommit(eviction);
+    }
+
+    /**
+     * Evicts every product, now and again once the current transaction (if any) commits.
+     */
+    public void evictAll() {
+        Runnable eviction = productsById::invalidateAll;
+        eviction.run();
+        afterCommit(eviction);
+        log.debug("Product cache cleared");
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of the product cache.
+     * @return the cache statistics
+     */
+    public CacheStatsDTO stats() {
+        CacheStats stats = statsCounter.snapshot();
+        return new CacheStatsDTO(productsById.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount(), (long) productSkuIndex.size());
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sapients.product_catalog_api.cache;
+
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.repository.ProductSkuId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map from every SKU to its product ID, loaded at startup and maintained by the write paths, so a SKU
+ * lookup resolves to an ID without a query and then shares the ID-keyed read path.
+ * Changes apply immediately, so write paths make them once their transaction has committed; a mapping left stale in
+ * between is caught by callers comparing the SKU of the product they read. A SKU that is not in the map is looked up
+ * on the unique SKU index and remembered.
+ */
+@Slf4j
+@Component
+public class ProductSkuIndex {
+
+    private final Map<String, Long> idsBySku = new ConcurrentHashMap<>();
+    private final ProductRepository productRepository;
+
+    public ProductSkuIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Loads the SKU of every product.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        long start = System.nanoTime();
+        for (ProductSkuId skuId : productRepository.findAllSkuIds()) {
+            idsBySku.put(skuId.getSku(), skuId.getId());
+        }
+        log.info("Loaded {} SKUs in {} ms", idsBySku.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Resolves a SKU to the ID of its product.
+     * @param sku the SKU
+     * @return the product ID, or empty when no product has the SKU
+     */
+    public Optional<Long> resolve(String sku) {
+        Long id = idsBySku.get(sku);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        Optional<Long> stored = productRepository.findIdBySku(sku);
+        stored.ifPresent(storedId -> idsBySku.putIfAbsent(sku, storedId));
+        return stored;
+    }
+
+    /**
+     * Maps a SKU to a product ID.
+     * @param sku the SKU, ignored when null
+     * @param id the product ID
+     */
+    public void put(String sku, Long id) {
+        if (sku != null) {
+            idsBySku.put(sku, id);
+        }
+    }
+
+    /**
+     * Removes SKUs.
+     * @param skus the SKUs to remove; nulls are ignored
+     */
+    public void remove(String... skus) {
+        Arrays.stream(skus).filter(Objects::nonNull).forEach(idsBySku::remove);
+    }
+
+    public int size() {
+        return idsBySku.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.sapients.product_catalog_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sapients.product_catalog_api.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of requests in flight. On virtual threads nothing else bounds request concurrency, so without this
+ * thousands of requests would pile up on the connection pool and fail with connection timeouts; here they wait
+ * in a fair queue instead and are rejected with 503 only once the wait exceeds the timeout.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(int maxConcurrentRequests, Duration acquireTimeout, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            log.warn("Rejecting {} {}: too many concurrent requests", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ApiResponse<>(false, "Too many concurrent requests", null));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
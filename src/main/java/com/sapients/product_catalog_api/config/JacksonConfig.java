@@ -0,0 +1,62 @@
+package com.sapients.product_catalog_api.config;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Gives {@link ProductDTO} the {@link ProductFieldsFilter#FILTER_ID} filter, which serializes every property
+     * unless a response selects some with {@code fields}.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer productFieldsFilterCustomizer() {
+        return builder -> builder
+                .annotationIntrospector(existing -> AnnotationIntrospector.pair(new ProductFieldsIntrospector(),
+                        existing != null ? existing : new JacksonAnnotationIntrospector()))
+                .filters(new SimpleFilterProvider()
+                        .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                        .setFailOnUnknownId(false));
+    }
+
+    /**
+     * Answers {@code Accept: application/cbor} with the same mapper settings as JSON.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Answers {@code Accept: application/x-jackson-smile} with the same mapper settings as JSON.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    private static class ProductFieldsIntrospector extends NopAnnotationIntrospector {
+        @Override
+        public Object findFilterId(Annotated annotated) {
+            if (annotated instanceof AnnotatedClass annotatedClass && annotatedClass.getRawType() == ProductDTO.class) {
+                return ProductFieldsFilter.FILTER_ID;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sapients.product_catalog_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * Per-request summaries replace the INFO lines the service used to write for every read.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestSummaryLoggingFilter> requestSummaryLoggingFilter(
+            @Value("${product.logging.request-summary.sample-rate:0.01}") double sampleRate,
+            @Value("${product.logging.request-summary.slow-threshold:1s}") Duration slowThreshold) {
+        FilterRegistrationBean<RequestSummaryLoggingFilter> registration =
+                new FilterRegistrationBean<>(new RequestSummaryLoggingFilter(sampleRate, slowThreshold));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sapients.product_catalog_api.config;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The {@code fields} request parameter, which selects the product properties a response carries.
+ */
+public final class ProductFieldsFilter {
+
+    /**
+     * Jackson filter ID given to {@link com.sapients.product_catalog_api.dto.ProductDTO} by {@link JacksonConfig}.
+     */
+    public static final String FILTER_ID = "productFields";
+
+    public static final String PARAMETER = "fields";
+
+    /**
+     * Comma-separated property names, e.g. {@code id,title,price}.
+     */
+    public static final String PATTERN = "^[a-zA-Z]+(,[a-zA-Z]+)*$";
+
+    private ProductFieldsFilter() {
+    }
+
+    /**
+     * Parses a {@code fields} parameter value.
+     * @param fields comma-separated property names, or null
+     * @return the selected property names, or null to select every property
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        return new LinkedHashSet<>(Arrays.asList(fields.split(",")));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sapients.product_catalog_api.config;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The formats a product is served in, and the ETag of each. The same version encodes to different bytes in JSON, CBOR
+ * and Smile, so each format gets its own tag and a cache keyed by one can't answer a request for another.
+ */
+public final class ProductRepresentation {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * The product formats in order of preference, for {@code Accept} headers that allow several.
+     */
+    public static final List<MediaType> MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, SMILE);
+
+    private static final Map<MediaType, String> ETAG_SUFFIXES = Map.of(
+            MediaType.APPLICATION_JSON, "",
+            MediaType.APPLICATION_CBOR, "-cbor",
+            SMILE, "-smile");
+
+    private ProductRepresentation() {
+    }
+
+    /**
+     * @param accept the Accept header, or null
+     * @return the format to answer in, JSON when the header is absent, or null when none of them is acceptable
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType representation : MEDIA_TYPES) {
+                if (mediaType.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param version the product version
+     * @param representation one of {@link #MEDIA_TYPES}
+     * @return the strong ETag of the product version in that format, such as {@code "3"} for JSON or {@code "3-cbor"}
+     */
+    public static String eTag(Long version, MediaType representation) {
+        return "\"" + version + ETAG_SUFFIXES.get(representation) + "\"";
+    }
+}
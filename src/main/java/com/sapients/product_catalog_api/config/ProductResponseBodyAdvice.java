@@ -0,0 +1,40 @@
+package com.sapients.product_catalog_api.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Leaves only the properties named by the {@code fields} request parameter in the products of a JSON, CBOR or Smile
+ * response. Products served from the cache are trimmed here; the service maps only the selected properties
+ * of the products it loads. Every such response is negotiated, so it also varies by {@code Accept}.
+ */
+@ControllerAdvice
+public class ProductResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType, MethodParameter returnType,
+                                           ServerHttpRequest request, ServerHttpResponse response) {
+        if (!response.getHeaders().getVary().contains(HttpHeaders.ACCEPT)) {
+            response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Set<String> fields = ProductFieldsFilter.parse(servletRequest.getServletRequest().getParameter(ProductFieldsFilter.PARAMETER));
+        if (fields != null) {
+            bodyContainer.setFilters(new SimpleFilterProvider()
+                    .addFilter(ProductFieldsFilter.FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sapients.product_catalog_api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs one bounded key=value line per request: method, path, status and duration. Only a sampled fraction of
+ * requests is logged at INFO; requests that are slow or fail with a 5xx are always logged, at WARN.
+ */
+@Slf4j
+public class RequestSummaryLoggingFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestSummaryLoggingFilter(double sampleRate, Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            if (elapsedNanos >= slowThresholdNanos || status >= 500) {
+                log.warn("method={} path={} status={} durationMs={}", request.getMethod(), request.getRequestURI(), status,
+                        elapsedNanos / 1_000_000);
+            } else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log.info("method={} path={} status={} durationMs={}", request.getMethod(), request.getRequestURI(), status,
+                        elapsedNanos / 1_000_000);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sapients.product_catalog_api.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.TruncateTokenFilterFactory;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Custom analyzers of the product search index, registered through
+ * {@code hibernate.search.backend.analysis.configurer}.
+ */
+public class SearchAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    /**
+     * Indexes every prefix of every word, so a typed prefix matches with a plain term lookup.
+     */
+    public static final String AUTOCOMPLETE_INDEXING = "autocomplete_indexing";
+
+    /**
+     * Splits the typed text into words without expanding them into prefixes.
+     */
+    public static final String AUTOCOMPLETE_SEARCH = "autocomplete_search";
+
+    private static final String MAX_PREFIX_LENGTH = "20";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(AUTOCOMPLETE_INDEXING).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(EdgeNGramFilterFactory.class)
+                .param("minGramSize", "1")
+                .param("maxGramSize", MAX_PREFIX_LENGTH);
+        context.analyzer(AUTOCOMPLETE_SEARCH).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(TruncateTokenFilterFactory.class)
+                .param("prefixLength", MAX_PREFIX_LENGTH);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sapients.product_catalog_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for product loads. With {@code spring.threads.virtual.enabled} on Java 21+ they run on virtual threads,
+ * still bounded by the same concurrency limits.
+ */
+@Configuration
+public class SyncConfig {
+
+    @Bean("productSyncExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor productSyncExecutor(@Value("${product.sync.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("product-sync-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean("productSyncExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualProductSyncExecutor(@Value("${product.sync.parallelism:4}") int parallelism) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("product-sync-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(parallelism);
+        return executor;
+    }
+
+    @Bean("productLoadExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor productLoadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        // The load service allows one job at a time, but a finished job releases that slot just before its thread
+        // returns to the pool; the single queue slot holds the next job instead of rejecting it.
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("product-load-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean("productLoadExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualProductLoadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("product-load-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(1);
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.sapients.product_catalog_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Request limiting for the virtual-thread mode ({@code virtual} profile, Java 21+).
+ * Spring Boot itself moves Tomcat request handling and the application task executor onto virtual threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * Sizes the request limit from the Hikari pool: with open-in-view a request holds at most one connection,
+     * and cache hits hold none, so a few requests per connection keep the pool busy without starving it.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${product.virtual-threads.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMillis,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(
+                maximumPoolSize * requestsPerConnection, Duration.ofMillis(connectionTimeoutMillis), objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
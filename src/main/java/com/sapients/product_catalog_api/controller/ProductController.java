@@ -1,7 +1,20 @@
 package com.sapients.product_catalog_api.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sapients.product_catalog_api.config.ProductFieldsFilter;
+import com.sapients.product_catalog_api.config.ProductRepresentation;
 import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.BatchResultDTO;
+import com.sapients.product_catalog_api.dto.CacheStatsDTO;
+import com.sapients.product_catalog_api.dto.CursorPageDTO;
+import com.sapients.product_catalog_api.dto.IndexStatusDTO;
+import com.sapients.product_catalog_api.dto.LoadJobDTO;
 import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSearchFilterDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.dto.ReindexResultDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.dto.SearchPageDTO;
 import com.sapients.product_catalog_api.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,12 +24,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
-import java.util.Set;
 
 /**
  * REST controller for managing products.
@@ -26,6 +44,10 @@ import java.util.Set;
 @Tag(name = "Product Management", description = "APIs for managing products")
 public class ProductController {
 
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private static final String FIELDS_DESCRIPTION = "Comma-separated product properties to return, e.g. id,title,price; all of them but reviews when absent";
+
     private final ProductService productService;
 
     public ProductController(ProductService productService) {
@@ -37,56 +59,162 @@ public class ProductController {
      */
     @Operation(summary = "Create a new product", description = "Creates a new product and returns the created product")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Product created successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "A product with the same ID or SKU already exists")
     @PostMapping
     public ResponseEntity<ApiResponse<ProductDTO>> createProduct(@Valid @RequestBody ProductDTO productDTO) {
         return productService.createProduct(productDTO);
     }
 
     /**
-     * Retrieves a list of all products.
+     * Retrieves one page of products, using the ID of the last product of the previous page as cursor.
+     * The summary view selects only the listed columns.
      */
-    @Operation(summary = "Get all products", description = "Retrieves a list of all products")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Products retrieved successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
+    @Operation(summary = "Get all products", description = "Retrieves a keyset-paginated list of products ordered by ID. "
+            + "view=summary returns id, title, price, rating, thumbnail and category without loading products or their collections")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Products retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageDTO.class)))
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProductDTO>>> getAllProducts() {
-        return productService.getAllProducts();
+    public ResponseEntity<?> getAllProducts(
+            @Parameter(description = "ID of the last product of the previous page (nextCursor)")
+            @RequestParam(required = false) @Digits(integer = 10, fraction = 0) Long after,
+            @Parameter(description = "Maximum number of products to return, capped by the server")
+            @RequestParam(required = false) @Min(1) Integer size,
+            @Parameter(description = "full (default) for complete products, summary for summaries")
+            @RequestParam(defaultValue = "full") @Pattern(regexp = "^(full|summary)$") String view,
+            @Parameter(description = FIELDS_DESCRIPTION + ". Ignored by the summary view")
+            @RequestParam(required = false) @Pattern(regexp = ProductFieldsFilter.PATTERN) String fields) {
+        if ("summary".equals(view)) {
+            return productService.getProductSummaries(after, size);
+        }
+        return productService.getAllProducts(after, size, ProductFieldsFilter.parse(fields));
     }
 
     /**
-     * Retrieves a product by its ID.
+     * Streams all products as newline-delimited JSON.
      */
-    @Operation(summary = "Get product by ID", description = "Retrieves a product by its ID")
+    @Operation(summary = "Stream all products", description = "Streams the whole catalog as newline-delimited JSON, one product per line")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Products streamed successfully", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ProductDTO.class)))
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        return productService.streamAllProducts();
+    }
+
+    /**
+     * Retrieves a product by its ID. The product comes from the cache whole; {@code fields} trims it when written.
+     * The format is negotiated here, before the service, because the ETag and the 304 depend on it.
+     */
+    @Operation(summary = "Get product by ID", description = "Retrieves a product by its ID, with the ETag of its version "
+            + "in the requested format. Answers 304 without a body when If-None-Match holds that ETag")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Product retrieved successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "Product not modified")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "406", description = "None of JSON, CBOR and Smile is acceptable")
     @GetMapping("/{id}")
     public ResponseEntity<?> getProductById(
             @Parameter(description = "ID of the product to be retrieved")
-            @PathVariable @Digits(integer = 10, fraction = 0) Long id) {
-        return productService.getProductById(id);
+            @PathVariable @Digits(integer = 10, fraction = 0) Long id,
+            @Parameter(description = "ETag of the version the client already has")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) @Pattern(regexp = ProductFieldsFilter.PATTERN) String fields) {
+        MediaType representation = ProductRepresentation.negotiate(accept);
+        if (representation == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return productService.getProductById(id, ifNoneMatch, representation);
     }
 
     /**
-     * Loads products into the system.
+     * Retrieves one page of a product's reviews, using the cursor returned with the previous page.
      */
-    @Operation(summary = "Load products", description = "Loads products into the system")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Products loaded successfully")
+    @Operation(summary = "Get product reviews", description = "Retrieves a keyset-paginated list of a product's reviews in the order they were added. "
+            + "The review count, average rating and rating histogram come with the product as reviewStats")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Reviews retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found")
+    @GetMapping("/{id}/reviews")
+    public ResponseEntity<ApiResponse<CursorPageDTO<ReviewDTO>>> getProductReviews(
+            @Parameter(description = "ID of the product")
+            @PathVariable @Digits(integer = 10, fraction = 0) Long id,
+            @Parameter(description = "Cursor returned with the previous page (nextCursor)")
+            @RequestParam(required = false) @Digits(integer = 19, fraction = 0) Long after,
+            @Parameter(description = "Maximum number of reviews to return, capped by the server")
+            @RequestParam(required = false) @Min(1) Integer size) {
+        return productService.getProductReviews(id, after, size);
+    }
+
+    /**
+     * Starts loading products into the system in the background.
+     */
+    @Operation(summary = "Load products", description = "Starts a background job that syncs all pages of the external product API, or returns the job already running")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "Product load accepted", content = @Content(schema = @Schema(implementation = LoadJobDTO.class)))
     @PostMapping("/load")
-    public ResponseEntity<ApiResponse<String>> loadProducts() {
+    public ResponseEntity<ApiResponse<LoadJobDTO>> loadProducts() {
         return productService.loadProducts();
     }
 
+    /**
+     * Retrieves the state and progress of a load job.
+     */
+    @Operation(summary = "Get load job", description = "Retrieves the status, pages fetched, rows written and throughput of a load job")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Load job retrieved successfully", content = @Content(schema = @Schema(implementation = LoadJobDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Load job not found")
+    @GetMapping("/load/{jobId}")
+    public ResponseEntity<ApiResponse<LoadJobDTO>> getLoadJob(
+            @Parameter(description = "ID of the load job")
+            @PathVariable String jobId) {
+        return productService.getLoadJob(jobId);
+    }
+
+    /**
+     * Requests cancellation of a load job.
+     */
+    @Operation(summary = "Cancel load job", description = "Stops a load job before its next page; pages already written are kept")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Load job cancellation requested", content = @Content(schema = @Schema(implementation = LoadJobDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Load job not found")
+    @DeleteMapping("/load/{jobId}")
+    public ResponseEntity<ApiResponse<LoadJobDTO>> cancelLoadJob(
+            @Parameter(description = "ID of the load job")
+            @PathVariable String jobId) {
+        return productService.cancelLoadJob(jobId);
+    }
+
     /**
      * Updates an existing product by its ID.
      */
-    @Operation(summary = "Update a product", description = "Updates an existing product by its ID")
+    @Operation(summary = "Update a product", description = "Updates an existing product by its ID. With If-Match, only updates the version with that ETag")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Product updated successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Product was modified concurrently")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "Product has been modified since the If-Match version")
     @PutMapping("/{id}")
     public ResponseEntity<?> updateProduct(
             @Parameter(description = "ID of the product to be updated")
             @PathVariable @Digits(integer = 10, fraction = 0) Long id,
-            @Valid @RequestBody ProductDTO productDTO) {
-        return productService.updateProduct(id, productDTO);
+            @Valid @RequestBody ProductDTO productDTO,
+            @Parameter(description = "ETag of the version being updated")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return productService.updateProduct(id, productDTO, ifMatch);
+    }
+
+    /**
+     * Partially updates a product with a JSON merge patch.
+     */
+    @Operation(summary = "Patch a product", description = "Applies a JSON merge patch (RFC 7396): fields present in the body replace the product's, null clears them "
+            + "(except reviews, which cannot be cleared) and nested objects are merged. Only the changed columns and collection elements are written")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Product patched successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Malformed patch, reviews set to null, or the patched product is invalid")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Product was modified concurrently")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "412", description = "Product has been modified since the If-Match version")
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<ProductDTO>> patchProduct(
+            @Parameter(description = "ID of the product to be patched")
+            @PathVariable @Digits(integer = 10, fraction = 0) Long id,
+            @RequestBody JsonNode patch,
+            @Parameter(description = "ETag of the version being patched")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return productService.patchProduct(id, patch, ifMatch);
     }
 
     /**
@@ -102,19 +230,116 @@ public class ProductController {
     }
 
     /**
-     * Searches for products by a given keyword.
+     * Reserves stock of a product.
+     */
+    @Operation(summary = "Reserve stock", description = "Atomically takes quantity from the product's stock if at least that much is left")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stock reserved successfully")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Insufficient stock")
+    @PostMapping("/{id}/stock/reserve")
+    public ResponseEntity<ApiResponse<Void>> reserveStock(
+            @Parameter(description = "ID of the product")
+            @PathVariable @Digits(integer = 10, fraction = 0) Long id,
+            @Parameter(description = "Quantity to reserve")
+            @RequestParam(defaultValue = "1") @Min(1) Long quantity) {
+        return productService.reserveStock(id, quantity);
+    }
+
+    /**
+     * Releases previously reserved stock of a product.
      */
-    @Operation(summary = "Search products by keyword", description = "Searches for products by a given keyword")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Products found successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
+    @Operation(summary = "Release stock", description = "Gives a previously reserved quantity back to the product's stock")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Stock released successfully")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Product not found")
+    @PostMapping("/{id}/stock/release")
+    public ResponseEntity<ApiResponse<Void>> releaseStock(
+            @Parameter(description = "ID of the product")
+            @PathVariable @Digits(integer = 10, fraction = 0) Long id,
+            @Parameter(description = "Quantity to release")
+            @RequestParam(defaultValue = "1") @Min(1) Long quantity) {
+        return productService.releaseStock(id, quantity);
+    }
+
+    /**
+     * Creates products in bulk.
+     */
+    @Operation(summary = "Create products in bulk", description = "Creates up to product.batch.max-items products in chunked transactions and reports a result per product; "
+            + "invalid products and taken IDs or SKUs do not fail the rest of the batch")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Batch applied", content = @Content(schema = @Schema(implementation = BatchResultDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchResultDTO>> createProducts(@RequestBody List<ProductDTO> products) {
+        return productService.createProducts(products);
+    }
+
+    /**
+     * Updates products in bulk.
+     */
+    @Operation(summary = "Update products in bulk", description = "Updates up to product.batch.max-items products, matched by ID, in chunked transactions and reports a result per product; "
+            + "invalid or missing products and SKUs owned by another product do not fail the rest of the batch")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Batch applied", content = @Content(schema = @Schema(implementation = BatchResultDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    @PutMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchResultDTO>> updateProducts(@RequestBody List<ProductDTO> products) {
+        return productService.updateProducts(products);
+    }
+
+    /**
+     * Deletes products in bulk.
+     */
+    @Operation(summary = "Delete products in bulk", description = "Deletes up to product.batch.max-items products with their tags, images and reviews using bulk statements "
+            + "and reports a result per ID; missing products do not fail the rest of the batch")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Batch applied", content = @Content(schema = @Schema(implementation = BatchResultDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+    @PostMapping("/batch/delete")
+    public ResponseEntity<ApiResponse<BatchResultDTO>> deleteProducts(@RequestBody List<Long> ids) {
+        return productService.deleteProducts(ids);
+    }
+
+    /**
+     * Searches for products by keyword and filters, one page at a time, with optional facet counts.
+     * The summary view is served from the search index alone.
+     */
+    @Operation(summary = "Search products", description = "Searches title and description for a keyword, narrowed by category, tag, availability, price, rating and stock filters, "
+            + "and returns one page of hits ordered by relevance or the requested sort, with the total hit count. facets=true adds category, tag, availability, "
+            + "price and rating counts over all matching products. view=summary returns id, title, price, rating, thumbnail and category from the search index "
+            + "without querying the database")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Products found successfully", content = @Content(schema = @Schema(implementation = SearchPageDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Page is beyond the search result window")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "No products match the keyword and filters")
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Set<ProductDTO>>> searchProducts(
-            @Parameter(description = "Keyword to search for products")
-            @RequestParam @Pattern(regexp = "^[a-zA-Z0-9 ]+$") String keyword) {
-        return productService.searchProducts(keyword);
+    public ResponseEntity<?> searchProducts(
+            @Valid @ParameterObject ProductSearchFilterDTO filter,
+            @Parameter(description = "Zero-based page number")
+            @RequestParam(required = false) @Min(0) Integer page,
+            @Parameter(description = "Maximum number of hits to return, capped by the server")
+            @RequestParam(required = false) @Min(1) Integer size,
+            @Parameter(description = "full (default) for complete products, summary for index-only summaries")
+            @RequestParam(defaultValue = "full") @Pattern(regexp = "^(full|summary)$") String view,
+            @Parameter(description = FIELDS_DESCRIPTION + ". Ignored by the summary view")
+            @RequestParam(required = false) @Pattern(regexp = ProductFieldsFilter.PATTERN) String fields) {
+        if ("summary".equals(view)) {
+            return productService.searchProductSummaries(filter, page, size);
+        }
+        return productService.searchProducts(filter, page, size, ProductFieldsFilter.parse(fields));
+    }
+
+    /**
+     * Suggests products as the user types, from the search index alone.
+     */
+    @Operation(summary = "Autocomplete products", description = "Suggests products whose title or tags have words starting with each typed word, highest rated first, without querying the database")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully", content = @Content(schema = @Schema(implementation = ProductSummaryDTO.class)))
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<ProductSummaryDTO>>> autocompleteProducts(
+            @Parameter(description = "Text typed so far")
+            @RequestParam @Pattern(regexp = "^[a-zA-Z0-9 ]+$") String prefix,
+            @Parameter(description = "Maximum number of suggestions to return, capped by the server")
+            @RequestParam(required = false) @Min(1) Integer limit) {
+        return productService.autocompleteProducts(prefix, limit);
     }
 
     /**
-     * Finds a product by its ID or SKU.
+     * Finds a product by its ID or SKU. The product comes from the cache whole; {@code fields} trims it when written.
      */
     @Operation(summary = "Find product by ID or SKU", description = "Finds a product by its ID or SKU")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Product found successfully", content = @Content(schema = @Schema(implementation = ProductDTO.class)))
@@ -124,7 +349,44 @@ public class ProductController {
             @Parameter(description = "ID of the product to be found")
             @RequestParam(required = false) @Digits(integer = 10, fraction = 0) Long id,
             @Parameter(description = "SKU of the product to be found")
-            @RequestParam(required = false) @Pattern(regexp = "^[a-zA-Z0-9-]+$") String sku) {
+            @RequestParam(required = false) @Pattern(regexp = "^[a-zA-Z0-9-]+$") String sku,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) @Pattern(regexp = ProductFieldsFilter.PATTERN) String fields) {
         return productService.findProductByIdOrSku(id, sku);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the statistics of the product cache.
+     */
+    @Operation(summary = "Get product cache statistics", description = "Retrieves the size, hit, miss and eviction counters of the product cache")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully", content = @Content(schema = @Schema(implementation = CacheStatsDTO.class)))
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<CacheStatsDTO>> getCacheStats() {
+        return productService.getCacheStats();
+    }
+
+    /**
+     * Compares the search index with the database.
+     */
+    @Operation(summary = "Get search index status", description = "Retrieves the number of indexed documents and product rows, and whether they match")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search index status retrieved successfully", content = @Content(schema = @Schema(implementation = IndexStatusDTO.class)))
+    @GetMapping("/index/status")
+    public ResponseEntity<ApiResponse<IndexStatusDTO>> getSearchIndexStatus() {
+        return productService.getSearchIndexStatus();
+    }
+
+    /**
+     * Rebuilds the search index from the database with the mass indexer.
+     */
+    @Operation(summary = "Rebuild search index", description = "Purges the search index and reindexes all products from the database, loading them in parallel")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search index rebuilt successfully", content = @Content(schema = @Schema(implementation = ReindexResultDTO.class)))
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "A rebuild is already running")
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<ApiResponse<ReindexResultDTO>> rebuildSearchIndex(
+            @Parameter(description = "Number of threads loading products from the database")
+            @RequestParam(required = false) @Min(1) Integer threads,
+            @Parameter(description = "Number of products loaded per query")
+            @RequestParam(required = false) @Min(1) Integer batchSize) {
+        return productService.rebuildSearchIndex(threads, batchSize);
+    }
+}
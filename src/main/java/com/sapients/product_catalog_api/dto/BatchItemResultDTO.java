@@ -0,0 +1,24 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDTO {
+    public enum Status { CREATED, UPDATED, DELETED, NOT_FOUND, CONFLICT, INVALID, FAILED }
+
+    /**
+     * Position of the item in the request.
+     */
+    private Integer index;
+    private Long id;
+    private Status status;
+    private String message;
+
+    public boolean isSucceeded() {
+        return status == Status.CREATED || status == Status.UPDATED || status == Status.DELETED;
+    }
+}
@@ -0,0 +1,21 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResultDTO {
+    private Integer total;
+    private Integer succeeded;
+    private Integer failed;
+    private Long elapsedMillis;
+    /**
+     * One result per requested item, in request order.
+     */
+    private List<BatchItemResultDTO> items;
+}
@@ -0,0 +1,20 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+    private Long size;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+    private Long evictionCount;
+    /**
+     * Number of SKUs resolvable to a product ID without a query.
+     */
+    private Long skuIndexSize;
+}
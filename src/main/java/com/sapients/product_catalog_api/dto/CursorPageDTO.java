@@ -0,0 +1,19 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private Integer size;
+    /**
+     * Cursor to pass as {@code after} to fetch the next page, or {@code null} on the last page.
+     */
+    private Long nextCursor;
+}
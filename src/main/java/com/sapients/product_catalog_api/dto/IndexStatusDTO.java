@@ -0,0 +1,18 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexStatusDTO {
+    private Long indexedDocuments;
+    private Long databaseRows;
+    /**
+     * Whether the index holds one document per product row.
+     */
+    private Boolean consistent;
+    private Boolean rebuilding;
+}
@@ -0,0 +1,16 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestResultDTO {
+    private Long rowsWritten;
+    private Long inserted;
+    private Long updated;
+    private Long elapsedMillis;
+    private Double rowsPerSecond;
+}
@@ -0,0 +1,33 @@
+package com.sapients.product_catalog_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LoadJobDTO {
+    public enum Status { RUNNING, COMPLETED, FAILED, CANCELLED }
+
+    private String jobId;
+    private Status status;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime finishedAt;
+
+    private Long total;
+    private Long pagesFetched;
+    private Long productsFetched;
+    private Long productsWritten;
+    private Double rowsPerSecond;
+    private String error;
+}
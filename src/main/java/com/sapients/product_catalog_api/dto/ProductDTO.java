@@ -1,5 +1,6 @@
 package com.sapients.product_catalog_api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sapients.product_catalog_api.model.Dimensions;
 import com.sapients.product_catalog_api.model.Meta;
 import com.sapients.product_catalog_api.model.Review;
@@ -16,6 +17,11 @@ public class ProductDTO {
     @NotNull
     private Long id;
 
+    /**
+     * Version of the stored product, also returned in its ETag. Ignored on writes; send {@code If-Match} instead.
+     */
+    private Long version;
+
     @NotBlank
     private String title;
 
@@ -60,9 +66,19 @@ public class ProductDTO {
     @NotBlank
     private String availabilityStatus;
 
-    @NotEmpty
+    /**
+     * Accepted on writes but left out of reads; page through them with {@code GET /api/products/{id}/reviews}.
+     * A write without reviews keeps the stored ones.
+     */
+    @Size(min = 1)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<ReviewDTO> reviews;
 
+    /**
+     * Review count, average rating and rating histogram, maintained as reviews change. Ignored on writes.
+     */
+    private ReviewStatsDTO reviewStats;
+
     @NotBlank
     private String returnPolicy;
 
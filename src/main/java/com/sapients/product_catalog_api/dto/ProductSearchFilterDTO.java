@@ -0,0 +1,56 @@
+package com.sapients.product_catalog_api.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Keyword, filters and sort order of a product search. Filters are combined with AND; the values of a
+ * multi-valued filter are combined with OR.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductSearchFilterDTO {
+    /**
+     * Matched against title and description; all products match when absent.
+     */
+    @Pattern(regexp = "^[a-zA-Z0-9 ]+$")
+    private String keyword;
+
+    private List<String> category;
+
+    private List<String> tag;
+
+    private List<String> availabilityStatus;
+
+    @DecimalMin(value = "0.0")
+    private Double minPrice;
+
+    @DecimalMin(value = "0.0")
+    private Double maxPrice;
+
+    @DecimalMin(value = "0.0")
+    @DecimalMax(value = "5.0")
+    private Double minRating;
+
+    private Boolean inStock;
+
+    /**
+     * relevance (default), price, -price, rating or -rating; a leading minus sorts descending.
+     */
+    @Pattern(regexp = "^(relevance|-?price|-?rating)$")
+    private String sort;
+
+    /**
+     * Whether to return facet counts over all matching products along with the page.
+     */
+    private boolean facets;
+}
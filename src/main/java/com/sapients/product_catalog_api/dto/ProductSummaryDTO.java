@@ -0,0 +1,30 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IdProjection;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ProjectionConstructor;
+
+/**
+ * The fields of a product needed to list it, projected from the search index without loading the product.
+ */
+@Data
+@NoArgsConstructor
+public class ProductSummaryDTO {
+    private Long id;
+    private String title;
+    private Double price;
+    private Double rating;
+    private String thumbnail;
+    private String category;
+
+    @ProjectionConstructor
+    public ProductSummaryDTO(@IdProjection Long id, String title, Double price, Double rating, String thumbnail, String category) {
+        this.id = id;
+        this.title = title;
+        this.price = price;
+        this.rating = rating;
+        this.thumbnail = thumbnail;
+        this.category = category;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReindexResultDTO {
+    private Long documentsIndexed;
+    private Integer threadsToLoadObjects;
+    private Integer batchSizeToLoadObjects;
+    private Long elapsedMillis;
+    private Double documentsPerSecond;
+}
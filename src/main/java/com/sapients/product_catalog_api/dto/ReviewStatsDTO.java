@@ -0,0 +1,22 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewStatsDTO {
+    private Long count;
+    /**
+     * Mean rating of the product's reviews, or {@code null} without rated reviews.
+     */
+    private Double averageRating;
+    /**
+     * Stars (1 to 5) to the number of reviews whose rating rounds to them.
+     */
+    private Map<Integer, Long> histogram;
+}
@@ -0,0 +1,16 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO<T> {
+    private T item;
+    /**
+     * Relevance score of the hit; only comparable between hits of the same query.
+     */
+    private Float score;
+}
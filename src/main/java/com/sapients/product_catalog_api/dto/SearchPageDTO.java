@@ -0,0 +1,29 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPageDTO<T> {
+    /**
+     * Hits of this page, most relevant first.
+     */
+    private List<SearchHitDTO<T>> hits;
+    private Integer page;
+    private Integer size;
+    /**
+     * Number of documents matching the query, counted in the index without loading them.
+     */
+    private Long totalHits;
+    private Integer totalPages;
+    /**
+     * Facet name to bucket label to number of matching products, or {@code null} unless facets were requested.
+     */
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,17 @@
+package com.sapients.product_catalog_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResultDTO {
+    private Long total;
+    private Long pagesFetched;
+    private Long productsFetched;
+    private Long productsWritten;
+    private Long productsUnchanged;
+    private Long elapsedMillis;
+}
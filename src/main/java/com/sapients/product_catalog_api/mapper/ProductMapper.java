@@ -1,16 +1,41 @@
 package com.sapients.product_catalog_api.mapper;
 
 import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
 import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.model.Review;
+import com.sapients.product_catalog_api.repository.ProductSummary;
 
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Set;
+
 @Component
 public interface ProductMapper {
 
     Product toModel(ProductDTO productDTO);
 
+    /**
+     * Maps every property but the reviews, which are paged separately; {@code reviewStats} summarizes them.
+     */
     ProductDTO toDTO(Product product);
 
+    /**
+     * Maps only the named properties and leaves the others null, so collections that are not selected are never
+     * initialized. Reviews are never mapped, as in {@link #toDTO(Product)}, to which a null selection falls back.
+     */
+    ProductDTO toDTO(Product product, Set<String> fields);
+
+    ProductSummaryDTO toSummaryDTO(ProductSummary summary);
+
+    List<ReviewDTO> toReviewDTOs(List<Review> reviews);
+
+    /**
+     * Copies the DTO onto the product. Tags, images and reviews are updated in place, touching only the elements
+     * that changed, so unchanged collections are not rewritten. Null reviews leave the product's reviews as they are,
+     * since reads do not return them.
+     */
     void updateProductFromDTO(ProductDTO productDTO, Product product);
 }
\ No newline at end of file
@@ -3,16 +3,24 @@ package com.sapients.product_catalog_api.mapper.impl;
 import com.sapients.product_catalog_api.dto.DimensionsDTO;
 import com.sapients.product_catalog_api.dto.MetaDTO;
 import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
 import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.dto.ReviewStatsDTO;
 import com.sapients.product_catalog_api.mapper.ProductMapper;
 import com.sapients.product_catalog_api.model.Dimensions;
 import com.sapients.product_catalog_api.model.Meta;
 import com.sapients.product_catalog_api.model.Product;
 import com.sapients.product_catalog_api.model.Review;
+import com.sapients.product_catalog_api.model.ReviewStats;
+import com.sapients.product_catalog_api.repository.ProductSummary;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Component
 public class ProductMapperImpl implements ProductMapper {
@@ -43,7 +51,9 @@ public class ProductMapperImpl implements ProductMapper {
         product.warrantyInformation( productDTO.getWarrantyInformation() );
         product.shippingInformation( productDTO.getShippingInformation() );
         product.availabilityStatus( productDTO.getAvailabilityStatus() );
-        product.reviews( reviewDTOListToReviewList( productDTO.getReviews() ) );
+        List<Review> list1 = reviewDTOListToReviewList( productDTO.getReviews() );
+        product.reviews( list1 );
+        product.reviewStats( ReviewStats.of( list1 ) );
         product.returnPolicy( productDTO.getReturnPolicy() );
         product.minimumOrderQuantity( productDTO.getMinimumOrderQuantity() );
         product.meta( metaDTOToMeta( productDTO.getMeta() ) );
@@ -56,43 +66,138 @@ public class ProductMapperImpl implements ProductMapper {
         return product.build();
     }
 
+    /**
+     * Runs for every read, list and search hit, so it fills the DTOs through their setters instead of builders and
+     * copies the element collections into exactly-sized lists without an intermediate array. Reviews are left out.
+     */
     @Override
     public ProductDTO toDTO(Product product) {
         if ( product == null ) {
             return null;
         }
 
-        ProductDTO.ProductDTOBuilder productDTO = ProductDTO.builder();
+        ProductDTO productDTO = new ProductDTO();
+
+        productDTO.setId( product.getId() );
+        productDTO.setVersion( product.getVersion() );
+        productDTO.setTitle( product.getTitle() );
+        productDTO.setDescription( product.getDescription() );
+        productDTO.setCategory( product.getCategory() );
+        productDTO.setPrice( product.getPrice() );
+        productDTO.setDiscountPercentage( product.getDiscountPercentage() );
+        productDTO.setRating( product.getRating() );
+        productDTO.setStock( product.getStock() );
+        productDTO.setTags( copyElements( product.getTags() ) );
+        productDTO.setSku( product.getSku() );
+        productDTO.setWeight( product.getWeight() );
+        productDTO.setDimensions( dimensionsToDimensionsDTO( product.getDimensions() ) );
+        productDTO.setWarrantyInformation( product.getWarrantyInformation() );
+        productDTO.setShippingInformation( product.getShippingInformation() );
+        productDTO.setAvailabilityStatus( product.getAvailabilityStatus() );
+        productDTO.setReviewStats( reviewStatsToReviewStatsDTO( product.getReviewStats() ) );
+        productDTO.setReturnPolicy( product.getReturnPolicy() );
+        productDTO.setMinimumOrderQuantity( product.getMinimumOrderQuantity() );
+        productDTO.setMeta( metaToMetaDTO( product.getMeta() ) );
+        productDTO.setImages( copyElements( product.getImages() ) );
+        productDTO.setThumbnail( product.getThumbnail() );
+
+        return productDTO;
+    }
 
-        productDTO.id( product.getId() );
-        productDTO.title( product.getTitle() );
-        productDTO.description( product.getDescription() );
-        productDTO.category( product.getCategory() );
-        productDTO.price( product.getPrice() );
-        productDTO.discountPercentage( product.getDiscountPercentage() );
-        productDTO.rating( product.getRating() );
-        productDTO.stock( product.getStock() );
-        List<String> list = product.getTags();
-        if ( list != null ) {
-            productDTO.tags( new ArrayList<String>( list ) );
-        }
-        productDTO.sku( product.getSku() );
-        productDTO.weight( product.getWeight() );
-        productDTO.dimensions( dimensionsToDimensionsDTO( product.getDimensions() ) );
-        productDTO.warrantyInformation( product.getWarrantyInformation() );
-        productDTO.shippingInformation( product.getShippingInformation() );
-        productDTO.availabilityStatus( product.getAvailabilityStatus() );
-        productDTO.reviews( reviewListToReviewDTOList( product.getReviews() ) );
-        productDTO.returnPolicy( product.getReturnPolicy() );
-        productDTO.minimumOrderQuantity( product.getMinimumOrderQuantity() );
-        productDTO.meta( metaToMetaDTO( product.getMeta() ) );
-        List<String> list2 = product.getImages();
-        if ( list2 != null ) {
-            productDTO.images( new ArrayList<String>( list2 ) );
+    @Override
+    public ProductDTO toDTO(Product product, Set<String> fields) {
+        if ( fields == null ) {
+            return toDTO( product );
+        }
+        if ( product == null ) {
+            return null;
         }
-        productDTO.thumbnail( product.getThumbnail() );
 
-        return productDTO.build();
+        ProductDTO productDTO = new ProductDTO();
+
+        if ( fields.contains( "id" ) ) {
+            productDTO.setId( product.getId() );
+        }
+        if ( fields.contains( "version" ) ) {
+            productDTO.setVersion( product.getVersion() );
+        }
+        if ( fields.contains( "title" ) ) {
+            productDTO.setTitle( product.getTitle() );
+        }
+        if ( fields.contains( "description" ) ) {
+            productDTO.setDescription( product.getDescription() );
+        }
+        if ( fields.contains( "category" ) ) {
+            productDTO.setCategory( product.getCategory() );
+        }
+        if ( fields.contains( "price" ) ) {
+            productDTO.setPrice( product.getPrice() );
+        }
+        if ( fields.contains( "discountPercentage" ) ) {
+            productDTO.setDiscountPercentage( product.getDiscountPercentage() );
+        }
+        if ( fields.contains( "rating" ) ) {
+            productDTO.setRating( product.getRating() );
+        }
+        if ( fields.contains( "stock" ) ) {
+            productDTO.setStock( product.getStock() );
+        }
+        if ( fields.contains( "tags" ) ) {
+            productDTO.setTags( copyElements( product.getTags() ) );
+        }
+        if ( fields.contains( "sku" ) ) {
+            productDTO.setSku( product.getSku() );
+        }
+        if ( fields.contains( "weight" ) ) {
+            productDTO.setWeight( product.getWeight() );
+        }
+        if ( fields.contains( "dimensions" ) ) {
+            productDTO.setDimensions( dimensionsToDimensionsDTO( product.getDimensions() ) );
+        }
+        if ( fields.contains( "warrantyInformation" ) ) {
+            productDTO.setWarrantyInformation( product.getWarrantyInformation() );
+        }
+        if ( fields.contains( "shippingInformation" ) ) {
+            productDTO.setShippingInformation( product.getShippingInformation() );
+        }
+        if ( fields.contains( "availabilityStatus" ) ) {
+            productDTO.setAvailabilityStatus( product.getAvailabilityStatus() );
+        }
+        if ( fields.contains( "reviewStats" ) ) {
+            productDTO.setReviewStats( reviewStatsToReviewStatsDTO( product.getReviewStats() ) );
+        }
+        if ( fields.contains( "returnPolicy" ) ) {
+            productDTO.setReturnPolicy( product.getReturnPolicy() );
+        }
+        if ( fields.contains( "minimumOrderQuantity" ) ) {
+            productDTO.setMinimumOrderQuantity( product.getMinimumOrderQuantity() );
+        }
+        if ( fields.contains( "meta" ) ) {
+            productDTO.setMeta( metaToMetaDTO( product.getMeta() ) );
+        }
+        if ( fields.contains( "images" ) ) {
+            productDTO.setImages( copyElements( product.getImages() ) );
+        }
+        if ( fields.contains( "thumbnail" ) ) {
+            productDTO.setThumbnail( product.getThumbnail() );
+        }
+
+        return productDTO;
+    }
+
+    @Override
+    public List<ReviewDTO> toReviewDTOs(List<Review> reviews) {
+        return reviewListToReviewDTOList( reviews );
+    }
+
+    @Override
+    public ProductSummaryDTO toSummaryDTO(ProductSummary summary) {
+        if ( summary == null ) {
+            return null;
+        }
+
+        return new ProductSummaryDTO( summary.getId(), summary.getTitle(), summary.getPrice(), summary.getRating(),
+                summary.getThumbnail(), summary.getCategory() );
     }
 
     @Override
@@ -112,8 +217,7 @@ public class ProductMapperImpl implements ProductMapper {
         if ( product.getTags() != null ) {
             List<String> list = productDTO.getTags();
             if ( list != null ) {
-                product.getTags().clear();
-                product.getTags().addAll( list );
+                updateElements( list, product.getTags() );
             }
             else {
                 product.setTags( null );
@@ -139,20 +243,20 @@ public class ProductMapperImpl implements ProductMapper {
         product.setWarrantyInformation( productDTO.getWarrantyInformation() );
         product.setShippingInformation( productDTO.getShippingInformation() );
         product.setAvailabilityStatus( productDTO.getAvailabilityStatus() );
+        if ( product.getReviewStats() == null ) {
+            product.setReviewStats( ReviewStats.of( product.getReviews() ) );
+        }
         if ( product.getReviews() != null ) {
             List<Review> list1 = reviewDTOListToReviewList( productDTO.getReviews() );
             if ( list1 != null ) {
-                product.getReviews().clear();
-                product.getReviews().addAll( list1 );
-            }
-            else {
-                product.setReviews( null );
+                updateReviews( list1, product.getReviews(), product.getReviewStats() );
             }
         }
         else {
             List<Review> list1 = reviewDTOListToReviewList( productDTO.getReviews() );
             if ( list1 != null ) {
                 product.setReviews( list1 );
+                product.setReviewStats( ReviewStats.of( list1 ) );
             }
         }
         product.setReturnPolicy( productDTO.getReturnPolicy() );
@@ -169,8 +273,7 @@ public class ProductMapperImpl implements ProductMapper {
         if ( product.getImages() != null ) {
             List<String> list2 = productDTO.getImages();
             if ( list2 != null ) {
-                product.getImages().clear();
-                product.getImages().addAll( list2 );
+                updateElements( list2, product.getImages() );
             }
             else {
                 product.setImages( null );
@@ -185,6 +288,84 @@ public class ProductMapperImpl implements ProductMapper {
         product.setThumbnail( productDTO.getThumbnail() );
     }
 
+    /**
+     * Copies a list by index. {@code new ArrayList<>(list)} goes through {@code toArray()} for anything but an
+     * {@code ArrayList}, which for Hibernate's persistent collections allocates a second array of the same size, and
+     * iterating them allocates a proxy iterator around the backing list's own.
+     * @param list the list to copy, may be {@code null}
+     * @return a mutable copy of exactly the list's size, or {@code null}
+     */
+    protected <T> List<T> copyElements(List<T> list) {
+        if ( list == null ) {
+            return null;
+        }
+
+        int size = list.size();
+        List<T> copy = new ArrayList<T>( size );
+        for ( int i = 0; i < size; i++ ) {
+            copy.add( list.get( i ) );
+        }
+
+        return copy;
+    }
+
+    /**
+     * Makes the target list equal to the source by setting, appending and removing only the elements that differ.
+     * @param source the elements to end up with
+     * @param mappingTarget the list to update in place
+     */
+    protected void updateElements(List<String> source, List<String> mappingTarget) {
+        int common = Math.min( source.size(), mappingTarget.size() );
+        for ( int i = 0; i < common; i++ ) {
+            if ( !Objects.equals( source.get( i ), mappingTarget.get( i ) ) ) {
+                mappingTarget.set( i, source.get( i ) );
+            }
+        }
+        for ( int i = common; i < source.size(); i++ ) {
+            mappingTarget.add( source.get( i ) );
+        }
+        while ( mappingTarget.size() > source.size() ) {
+            mappingTarget.remove( mappingTarget.size() - 1 );
+        }
+    }
+
+    /**
+     * Keeps the reviews whose content is unchanged, removes the reviews that are gone and adds the new ones,
+     * adjusting the statistics by the removed and added reviews only.
+     * @param source the reviews to end up with
+     * @param mappingTarget the reviews to update in place
+     * @param stats the statistics of the reviews to update in place
+     */
+    protected void updateReviews(List<Review> source, List<Review> mappingTarget, ReviewStats stats) {
+        List<Review> removed = new ArrayList<Review>( mappingTarget );
+        List<Review> added = new ArrayList<Review>();
+        for ( Review review : source ) {
+            Review existing = removed.stream().filter( candidate -> sameContent( candidate, review ) ).findFirst().orElse( null );
+            if ( existing != null ) {
+                removed.remove( existing );
+            }
+            else {
+                added.add( review );
+            }
+        }
+        if ( !removed.isEmpty() ) {
+            mappingTarget.removeAll( removed );
+            removed.forEach( stats::remove );
+        }
+        if ( !added.isEmpty() ) {
+            mappingTarget.addAll( added );
+            added.forEach( stats::add );
+        }
+    }
+
+    private static boolean sameContent(Review review, Review other) {
+        return Objects.equals( review.getRating(), other.getRating() )
+                && Objects.equals( review.getComment(), other.getComment() )
+                && Objects.equals( review.getDate(), other.getDate() )
+                && Objects.equals( review.getReviewerName(), other.getReviewerName() )
+                && Objects.equals( review.getReviewerEmail(), other.getReviewerEmail() );
+    }
+
     protected Dimensions dimensionsDTOToDimensions(DimensionsDTO dimensionsDTO) {
         if ( dimensionsDTO == null ) {
             return null;
@@ -248,13 +429,28 @@ public class ProductMapperImpl implements ProductMapper {
             return null;
         }
 
-        DimensionsDTO.DimensionsDTOBuilder dimensionsDTO = DimensionsDTO.builder();
+        DimensionsDTO dimensionsDTO = new DimensionsDTO();
+
+        dimensionsDTO.setWidth( dimensions.getWidth() );
+        dimensionsDTO.setHeight( dimensions.getHeight() );
+        dimensionsDTO.setDepth( dimensions.getDepth() );
+
+        return dimensionsDTO;
+    }
+
+    protected ReviewStatsDTO reviewStatsToReviewStatsDTO(ReviewStats reviewStats) {
+        if ( reviewStats == null ) {
+            return null;
+        }
 
-        dimensionsDTO.width( dimensions.getWidth() );
-        dimensionsDTO.height( dimensions.getHeight() );
-        dimensionsDTO.depth( dimensions.getDepth() );
+        Map<Integer, Long> histogram = new LinkedHashMap<Integer, Long>( 8 );
+        histogram.put( 1, reviewStats.getOneStar() );
+        histogram.put( 2, reviewStats.getTwoStars() );
+        histogram.put( 3, reviewStats.getThreeStars() );
+        histogram.put( 4, reviewStats.getFourStars() );
+        histogram.put( 5, reviewStats.getFiveStars() );
 
-        return dimensionsDTO.build();
+        return new ReviewStatsDTO( reviewStats.getCount(), reviewStats.getAverageRating(), histogram );
     }
 
     protected ReviewDTO reviewToReviewDTO(Review review) {
@@ -262,15 +458,15 @@ public class ProductMapperImpl implements ProductMapper {
             return null;
         }
 
-        ReviewDTO.ReviewDTOBuilder reviewDTO = ReviewDTO.builder();
+        ReviewDTO reviewDTO = new ReviewDTO();
 
-        reviewDTO.rating( review.getRating() );
-        reviewDTO.comment( review.getComment() );
-        reviewDTO.date( review.getDate() );
-        reviewDTO.reviewerName( review.getReviewerName() );
-        reviewDTO.reviewerEmail( review.getReviewerEmail() );
+        reviewDTO.setRating( review.getRating() );
+        reviewDTO.setComment( review.getComment() );
+        reviewDTO.setDate( review.getDate() );
+        reviewDTO.setReviewerName( review.getReviewerName() );
+        reviewDTO.setReviewerEmail( review.getReviewerEmail() );
 
-        return reviewDTO.build();
+        return reviewDTO;
     }
 
     protected List<ReviewDTO> reviewListToReviewDTOList(List<Review> list) {
@@ -278,9 +474,10 @@ public class ProductMapperImpl implements ProductMapper {
             return null;
         }
 
-        List<ReviewDTO> list1 = new ArrayList<ReviewDTO>( list.size() );
-        for ( Review review : list ) {
-            list1.add( reviewToReviewDTO( review ) );
+        int size = list.size();
+        List<ReviewDTO> list1 = new ArrayList<ReviewDTO>( size );
+        for ( int i = 0; i < size; i++ ) {
+            list1.add( reviewToReviewDTO( list.get( i ) ) );
         }
 
         return list1;
@@ -291,14 +488,14 @@ public class ProductMapperImpl implements ProductMapper {
             return null;
         }
 
-        MetaDTO.MetaDTOBuilder metaDTO = MetaDTO.builder();
+        MetaDTO metaDTO = new MetaDTO();
 
-        metaDTO.createdAt( meta.getCreatedAt() );
-        metaDTO.updatedAt( meta.getUpdatedAt() );
-        metaDTO.barcode( meta.getBarcode() );
-        metaDTO.qrCode( meta.getQrCode() );
+        metaDTO.setCreatedAt( meta.getCreatedAt() );
+        metaDTO.setUpdatedAt( meta.getUpdatedAt() );
+        metaDTO.setBarcode( meta.getBarcode() );
+        metaDTO.setQrCode( meta.getQrCode() );
 
-        return metaDTO.build();
+        return metaDTO;
     }
 
     protected void dimensionsDTOToDimensions1(DimensionsDTO dimensionsDTO, Dimensions mappingTarget) {
@@ -0,0 +1,111 @@
+package com.sapients.product_catalog_api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Names, tags and recording of the catalog's own meters. Percentile histograms for everything under {@code product.}
+ * are switched on in application.yml; Hikari, cache and HTTP server meters come from Actuator.
+ */
+@Component
+public class ProductMetrics {
+    public static final String SERVICE_TIMER = "product.service";
+    public static final String MAPPER_TIMER = "product.mapper";
+    public static final String SEARCH_TIMER = "product.search.query";
+    public static final String SEARCH_HITS = "product.search.hits";
+    public static final String EXTERNAL_FETCH_TIMER = "product.external.fetch";
+
+    public static final String SUCCESS = "success";
+    public static final String NOT_MODIFIED = "not_modified";
+    public static final String NOT_FOUND = "not_found";
+    public static final String CLIENT_ERROR = "client_error";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public ProductMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records a {@link com.sapients.product_catalog_api.service.ProductService} call.
+     * @param sample started when the call began
+     * @param method the name of the service method
+     * @param outcome one of the outcome constants, see {@link #outcome(Object)}
+     */
+    public void recordService(Timer.Sample sample, String method, String outcome) {
+        sample.stop(meterRegistry.timer(SERVICE_TIMER, "method", method, "outcome", outcome));
+    }
+
+    /**
+     * Records mapping one page of results, timed once per page rather than once per product so that the timer costs
+     * nothing per mapped product. Single products are mapped within their service call and not timed separately.
+     * @param sample started before the first product of the page was mapped
+     * @param page {@code list}, {@code list_summaries}, {@code search_entities}, {@code search_summaries} or
+     *             {@code reviews}
+     */
+    public void recordMapper(Timer.Sample sample, String page) {
+        sample.stop(meterRegistry.timer(MAPPER_TIMER, "page", page));
+    }
+
+    /**
+     * Records a search query with the time the backend reports for it, which excludes loading and mapping the hits.
+     * @param type {@code entities}, {@code summaries} or {@code autocomplete}
+     * @param facets whether facets were computed
+     * @param took the time the query took in the search backend
+     * @param totalHits the number of matching products; for autocomplete, the number of suggestions returned
+     */
+    public void recordSearch(String type, boolean facets, Duration took, long totalHits) {
+        meterRegistry.timer(SEARCH_TIMER, "type", type, "facets", String.valueOf(facets)).record(took);
+        DistributionSummary.builder(SEARCH_HITS)
+                .baseUnit("products")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(totalHits);
+    }
+
+    /**
+     * Records one request to the external product API.
+     * @param sample started when the request was sent
+     * @param status the response status, or {@code null} if no response was received
+     */
+    public void recordExternalFetch(Timer.Sample sample, Integer status) {
+        sample.stop(meterRegistry.timer(EXTERNAL_FETCH_TIMER,
+                "status", status == null ? "none" : String.valueOf(status),
+                "outcome", status != null && status == 200 ? SUCCESS : ERROR));
+    }
+
+    /**
+     * Classifies a service result by its HTTP status: {@code success} for 2xx, {@code not_modified} for 304,
+     * {@code not_found} for 404, {@code client_error} for other 4xx, {@code error} otherwise. Results that are not
+     * response entities count as {@code success}.
+     * @param result the value returned by a service method
+     * @return the outcome tag value
+     */
+    public static String outcome(Object result) {
+        if (!(result instanceof ResponseEntity<?> response)) {
+            return SUCCESS;
+        }
+        HttpStatusCode status = response.getStatusCode();
+        if (status.is2xxSuccessful()) {
+            return SUCCESS;
+        }
+        if (status.value() == 304) {
+            return NOT_MODIFIED;
+        }
+        if (status.value() == 404) {
+            return NOT_FOUND;
+        }
+        return status.is4xxClientError() ? CLIENT_ERROR : ERROR;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sapients.product_catalog_api.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every call into {@link com.sapients.product_catalog_api.service.ProductService} made through its Spring bean.
+ * Calls the service makes to its own methods are not proxied and so not timed separately. Mapping is timed per page
+ * where it happens, see {@link ProductMetrics#recordMapper}.
+ */
+@Aspect
+@Component
+public class ProductMetricsAspect {
+
+    private final ProductMetrics productMetrics;
+
+    public ProductMetricsAspect(ProductMetrics productMetrics) {
+        this.productMetrics = productMetrics;
+    }
+
+    /**
+     * Service calls are tagged with the method and its outcome; an exception counts as {@code error}.
+     */
+    @Around("execution(public * com.sapients.product_catalog_api.service.ProductService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = productMetrics.start();
+        String outcome = ProductMetrics.ERROR;
+        try {
+            Object result = joinPoint.proceed();
+            outcome = ProductMetrics.outcome(result);
+            return result;
+        } finally {
+            productMetrics.recordService(sample, joinPoint.getSignature().getName(), outcome);
+        }
+    }
+}
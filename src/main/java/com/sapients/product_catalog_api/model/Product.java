@@ -1,36 +1,87 @@
 package com.sapients.product_catalog_api.model;
 
+import com.sapients.product_catalog_api.config.SearchAnalysisConfigurer;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import java.util.List;
 
+/**
+ * Updates write only the changed columns. Tags and images are indexed lists, so changing one element updates
+ * one row instead of deleting and re-inserting the whole collection.
+ */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Entity
+@DynamicUpdate
 @Indexed
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "uk_products_sku", columnList = "sku", unique = true),
+        @Index(name = "idx_products_category", columnList = "category")
+})
 public class Product {
+    /**
+     * Number of products whose lazy collections are initialized together in one statement.
+     */
+    public static final int COLLECTION_BATCH_SIZE = 100;
+
+    /**
+     * Index fields holding every word prefix of the title and tags, for search-as-you-type.
+     */
+    public static final String TITLE_AUTOCOMPLETE = "title_autocomplete";
+    public static final String TAGS_AUTOCOMPLETE = "tags_autocomplete";
+
     @Id
     private Long id;
 
-    @FullTextField
+    /**
+     * Incremented on every update; rejects concurrent lost updates and serves as the product's ETag.
+     */
+    @Version
+    private Long version;
+
+    @FullTextField(projectable = Projectable.YES)
+    @FullTextField(name = TITLE_AUTOCOMPLETE, analyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_INDEXING,
+            searchAnalyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_SEARCH)
     private String title;
 
     @FullTextField
     private String description;
+
+    @KeywordField(projectable = Projectable.YES, sortable = Sortable.YES, aggregable = Aggregable.YES)
     private String category;
+
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Double price;
+
     private Double discountPercentage;
+
+    @GenericField(projectable = Projectable.YES, sortable = Sortable.YES, aggregable = Aggregable.YES)
     private Double rating;
+
+    @GenericField(sortable = Sortable.YES)
     private Long stock;
 
+    @KeywordField(aggregable = Aggregable.YES)
+    @FullTextField(name = TAGS_AUTOCOMPLETE, analyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_INDEXING,
+            searchAnalyzer = SearchAnalysisConfigurer.AUTOCOMPLETE_SEARCH)
     @ElementCollection
-    @CollectionTable(name = "product_tags", joinColumns = @JoinColumn(name = "product_id"))
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
+    @CollectionTable(name = "product_tags", joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_product_tags_product_id", columnList = "product_id"))
+    @OrderColumn(name = "tag_order")
     @Column(name = "tag")
     private List<String> tags;
 
@@ -42,12 +93,22 @@ public class Product {
 
     private String warrantyInformation;
     private String shippingInformation;
+
+    @KeywordField(sortable = Sortable.YES, aggregable = Aggregable.YES)
     private String availabilityStatus;
 
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "product_id")
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
+    @JoinColumn(name = "product_id", nullable = false)
     private List<Review> reviews;
 
+    /**
+     * Maintained by the mapper whenever reviews are added or removed; {@code null} until the product is next written
+     * for rows created before it existed.
+     */
+    @Embedded
+    private ReviewStats reviewStats;
+
     private String returnPolicy;
     private Long minimumOrderQuantity;
 
@@ -55,9 +116,19 @@ public class Product {
     private Meta meta;
 
     @ElementCollection
-    @CollectionTable(name = "product_images", joinColumns = @JoinColumn(name = "product_id"))
+    @BatchSize(size = COLLECTION_BATCH_SIZE)
+    @CollectionTable(name = "product_images", joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_product_images_product_id", columnList = "product_id"))
+    @OrderColumn(name = "image_order")
     @Column(name = "image")
     private List<String> images;
 
+    @KeywordField(projectable = Projectable.YES, searchable = Searchable.NO)
     private String thumbnail;
+
+    /**
+     * SHA-256 of the product as last received from the external API, used to skip unchanged products on sync.
+     */
+    @Column(length = 64)
+    private String contentHash;
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.sapients.product_catalog_api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Review count, rating sum and rating histogram of a product, kept in the product row and adjusted review by review
+ * as reviews are added and removed, so they are known without loading the reviews. Ratings are counted in the
+ * star bucket they round to; reviews without a rating only count towards {@link #count}.
+ */
+@Data
+@NoArgsConstructor
+@Embeddable
+public class ReviewStats {
+    @Column(name = "review_count")
+    private Long count = 0L;
+
+    @Column(name = "review_rating_sum")
+    private Double ratingSum = 0.0;
+
+    @Column(name = "review_one_star")
+    private Long oneStar = 0L;
+
+    @Column(name = "review_two_stars")
+    private Long twoStars = 0L;
+
+    @Column(name = "review_three_stars")
+    private Long threeStars = 0L;
+
+    @Column(name = "review_four_stars")
+    private Long fourStars = 0L;
+
+    @Column(name = "review_five_stars")
+    private Long fiveStars = 0L;
+
+    /**
+     * @param reviews the reviews to aggregate, may be {@code null}
+     * @return the statistics of the given reviews
+     */
+    public static ReviewStats of(Iterable<Review> reviews) {
+        ReviewStats stats = new ReviewStats();
+        if (reviews != null) {
+            for (Review review : reviews) {
+                stats.add(review);
+            }
+        }
+        return stats;
+    }
+
+    public void add(Review review) {
+        adjust(review, 1);
+    }
+
+    public void remove(Review review) {
+        adjust(review, -1);
+    }
+
+    /**
+     * @return the mean of the ratings, or {@code null} if no review has a rating
+     */
+    public Double getAverageRating() {
+        long rated = oneStar + twoStars + threeStars + fourStars + fiveStars;
+        return rated == 0 ? null : ratingSum / rated;
+    }
+
+    private void adjust(Review review, int delta) {
+        count += delta;
+        Double rating = review.getRating();
+        if (rating == null) {
+            return;
+        }
+        ratingSum += delta * rating;
+        switch ((int) Math.max(1, Math.min(5, Math.round(rating)))) {
+            case 1 -> oneStar += delta;
+            case 2 -> twoStars += delta;
+            case 3 -> threeStars += delta;
+            case 4 -> fourStars += delta;
+            default -> fiveStars += delta;
+        }
+    }
+}
@@ -1,10 +1,113 @@
 package com.sapients.product_catalog_api.repository;
 
 import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.model.Review;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Collections are initialized lazily, in batches of {@link Product#COLLECTION_BATCH_SIZE} for multi-product results.
+ * Reads do not map reviews, so single-product lookups no longer fetch them up front.
+ */
 public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findBySku(String sku);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page: the products whose ID is strictly greater than the given cursor, in ID order.
+     */
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Keyset page of summaries, like {@link #findByIdGreaterThanOrderByIdAsc}, in a single statement over the
+     * product table.
+     */
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("select p.id as id, p.title as title, p.price as price, p.rating as rating, p.thumbnail as thumbnail, "
+            + "p.category as category from Product p where p.id > :id order by p.id")
+    List<ProductSummary> findSummariesByIdGreaterThan(Long id, Limit limit);
+
+    /**
+     * Streams the whole catalog in ID order. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Product p order by p.id")
+    Stream<Product> streamAllByOrderByIdAsc();
+
+    /**
+     * Keyset page of a product's reviews in ID order, read without loading the product.
+     */
+    @Query("select r from Product p join p.reviews r where p.id = :productId and r.id > :after order by r.id")
+    List<Review> findReviewsByProductId(Long productId, Long after, Limit limit);
+
+    @Query("select p.id from Product p where p.sku = :sku")
+    Optional<Long> findIdBySku(String sku);
+
+    @Query("select p.sku as sku, p.id as id from Product p where p.sku is not null")
+    List<ProductSkuId> findAllSkuIds();
+
+    @Query("select p.sku as sku, p.id as id from Product p where p.id in :ids")
+    List<ProductSkuId> findSkuIdsByIdIn(Collection<Long> ids);
+
+    @Query("select p.sku as sku, p.id as id from Product p where p.sku in :skus")
+    List<ProductSkuId> findSkuIdsBySkuIn(Collection<String> skus);
+
+    /**
+     * Bulk-deletes the tags of the given products. Tags and images are element collections and reviews hang off a
+     * unidirectional join column, so their rows can only be bulk-deleted in SQL.
+     */
+    @Modifying
+    @Query(value = "delete from product_tags where product_id in :ids", nativeQuery = true)
+    int deleteTagsByProductIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from product_images where product_id in :ids", nativeQuery = true)
+    int deleteImagesByProductIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "delete from review where product_id in :ids", nativeQuery = true)
+    int deleteReviewsByProductIdIn(Collection<Long> ids);
+
+    @Query("select p.version from Product p where p.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("select coalesce(p.stock, 0) from Product p where p.id = :id")
+    Optional<Long> findStockById(Long id);
+
+    @Query("select p.id as id, coalesce(p.stock, 0) as stock from Product p where p.id in :ids")
+    List<ProductStock> findStocksByIdIn(Collection<Long> ids);
+
+    /**
+     * Takes a quantity from a product's stock in one statement, only if at least that much is left, so concurrent
+     * reservations can neither oversell nor lose each other's updates.
+     * @return 1 if the stock was taken, 0 if the product is missing or has too little stock
+     */
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :quantity, p.version = p.version + 1 where p.id = :id and p.stock >= :quantity")
+    int decrementStock(Long id, long quantity);
+
+    /**
+     * Adds a (possibly negative) amount to a product's stock in one statement.
+     * @return 1 if the product exists, 0 otherwise
+     */
+    @Modifying
+    @Query("update Product p set p.stock = coalesce(p.stock, 0) + :delta, p.version = p.version + 1 where p.id = :id")
+    int adjustStock(Long id, long delta);
+
+    @Query("select p.id as id, p.meta.updatedAt as updatedAt, p.contentHash as contentHash from Product p where p.id in :ids")
+    List<ProductSyncState> findSyncStatesByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,10 @@
+package com.sapients.product_catalog_api.repository;
+
+/**
+ * A product's SKU and the ID it resolves to.
+ */
+public interface ProductSkuId {
+    String getSku();
+
+    Long getId();
+}
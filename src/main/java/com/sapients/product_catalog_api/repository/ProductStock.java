@@ -0,0 +1,10 @@
+package com.sapients.product_catalog_api.repository;
+
+/**
+ * A product's ID and its stock.
+ */
+public interface ProductStock {
+    Long getId();
+
+    Long getStock();
+}
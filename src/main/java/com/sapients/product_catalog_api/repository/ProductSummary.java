@@ -0,0 +1,18 @@
+package com.sapients.product_catalog_api.repository;
+
+/**
+ * The columns of a product needed to list it, selected without loading the entity or its collections.
+ */
+public interface ProductSummary {
+    Long getId();
+
+    String getTitle();
+
+    Double getPrice();
+
+    Double getRating();
+
+    String getThumbnail();
+
+    String getCategory();
+}
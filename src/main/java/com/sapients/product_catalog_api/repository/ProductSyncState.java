@@ -0,0 +1,14 @@
+package com.sapients.product_catalog_api.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The stored state of a product that the external sync compares against.
+ */
+public interface ProductSyncState {
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+
+    String getContentHash();
+}
@@ -0,0 +1,12 @@
+package com.sapients.product_catalog_api.service;
+
+import com.sapients.product_catalog_api.dto.BatchResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+
+import java.util.List;
+
+public interface ProductBatchService {
+    BatchResultDTO create(List<ProductDTO> products);
+    BatchResultDTO update(List<ProductDTO> products);
+    BatchResultDTO delete(List<Long> ids);
+}
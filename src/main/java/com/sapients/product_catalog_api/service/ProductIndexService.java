@@ -0,0 +1,13 @@
+package com.sapients.product_catalog_api.service;
+
+import com.sapients.product_catalog_api.dto.IndexStatusDTO;
+import com.sapients.product_catalog_api.dto.ReindexResultDTO;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ProductIndexService {
+    IndexStatusDTO status();
+    Optional<ReindexResultDTO> rebuild(Integer threadsToLoadObjects, Integer batchSizeToLoadObjects);
+    void reindex(Collection<Long> ids);
+}
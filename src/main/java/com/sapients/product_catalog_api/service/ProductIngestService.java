@@ -0,0 +1,10 @@
+package com.sapients.product_catalog_api.service;
+
+import com.sapients.product_catalog_api.dto.IngestResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+
+import java.util.List;
+
+public interface ProductIngestService {
+    IngestResultDTO ingest(List<ProductDTO> productDTOs);
+}
@@ -0,0 +1,11 @@
+package com.sapients.product_catalog_api.service;
+
+import com.sapients.product_catalog_api.dto.LoadJobDTO;
+
+import java.util.Optional;
+
+public interface ProductLoadJobService {
+    LoadJobDTO submit();
+    Optional<LoadJobDTO> find(String jobId);
+    Optional<LoadJobDTO> cancel(String jobId);
+}
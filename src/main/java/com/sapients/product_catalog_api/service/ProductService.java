@@ -1,19 +1,48 @@
 package com.sapients.product_catalog_api.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.BatchResultDTO;
+import com.sapients.product_catalog_api.dto.CacheStatsDTO;
+import com.sapients.product_catalog_api.dto.CursorPageDTO;
+import com.sapients.product_catalog_api.dto.IndexStatusDTO;
+import com.sapients.product_catalog_api.dto.LoadJobDTO;
 import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSearchFilterDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.dto.ReindexResultDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.dto.SearchPageDTO;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Set;
 
 public interface ProductService {
     ResponseEntity<ApiResponse<ProductDTO>> createProduct(ProductDTO productDTO);
-    ResponseEntity<ApiResponse<List<ProductDTO>>> getAllProducts();
-    ResponseEntity<ApiResponse<ProductDTO>> getProductById(Long id);
-    ResponseEntity<ApiResponse<String>> loadProducts();
-    ResponseEntity<ApiResponse<ProductDTO>> updateProduct(Long id, ProductDTO productDTO);
+    ResponseEntity<ApiResponse<CursorPageDTO<ProductDTO>>> getAllProducts(Long after, Integer size, Set<String> fields);
+    ResponseEntity<ApiResponse<CursorPageDTO<ProductSummaryDTO>>> getProductSummaries(Long after, Integer size);
+    ResponseEntity<StreamingResponseBody> streamAllProducts();
+    ResponseEntity<ApiResponse<ProductDTO>> getProductById(Long id, String ifNoneMatch, MediaType representation);
+    ResponseEntity<ApiResponse<CursorPageDTO<ReviewDTO>>> getProductReviews(Long id, Long after, Integer size);
+    ResponseEntity<ApiResponse<LoadJobDTO>> loadProducts();
+    ResponseEntity<ApiResponse<LoadJobDTO>> getLoadJob(String jobId);
+    ResponseEntity<ApiResponse<LoadJobDTO>> cancelLoadJob(String jobId);
+    ResponseEntity<ApiResponse<ProductDTO>> updateProduct(Long id, ProductDTO productDTO, String ifMatch);
+    ResponseEntity<ApiResponse<ProductDTO>> patchProduct(Long id, JsonNode patch, String ifMatch);
     ResponseEntity<ApiResponse<Void>> deleteProduct(Long id);
-    ResponseEntity<ApiResponse<Set<ProductDTO>>> searchProducts(String keyword);
+    ResponseEntity<ApiResponse<BatchResultDTO>> createProducts(List<ProductDTO> products);
+    ResponseEntity<ApiResponse<BatchResultDTO>> updateProducts(List<ProductDTO> products);
+    ResponseEntity<ApiResponse<BatchResultDTO>> deleteProducts(List<Long> ids);
+    ResponseEntity<ApiResponse<Void>> reserveStock(Long id, Long quantity);
+    ResponseEntity<ApiResponse<Void>> releaseStock(Long id, Long quantity);
+    ResponseEntity<ApiResponse<SearchPageDTO<ProductDTO>>> searchProducts(ProductSearchFilterDTO filter, Integer page, Integer size, Set<String> fields);
+    ResponseEntity<ApiResponse<SearchPageDTO<ProductSummaryDTO>>> searchProductSummaries(ProductSearchFilterDTO filter, Integer page, Integer size);
+    ResponseEntity<ApiResponse<List<ProductSummaryDTO>>> autocompleteProducts(String prefix, Integer limit);
     ResponseEntity<ApiResponse<ProductDTO>> findProductByIdOrSku(Long id, String sku);
+    ResponseEntity<ApiResponse<CacheStatsDTO>> getCacheStats();
+    ResponseEntity<ApiResponse<IndexStatusDTO>> getSearchIndexStatus();
+    ResponseEntity<ApiResponse<ReindexResultDTO>> rebuildSearchIndex(Integer threadsToLoadObjects, Integer batchSizeToLoadObjects);
 }
\ No newline at end of file
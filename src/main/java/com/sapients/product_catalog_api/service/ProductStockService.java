@@ -0,0 +1,8 @@
+package com.sapients.product_catalog_api.service;
+
+public interface ProductStockService {
+    enum Outcome { RESERVED, RELEASED, INSUFFICIENT_STOCK, NOT_FOUND }
+
+    Outcome reserve(Long id, long quantity);
+    Outcome release(Long id, long quantity);
+}
@@ -0,0 +1,7 @@
+package com.sapients.product_catalog_api.service;
+
+import com.sapients.product_catalog_api.dto.SyncResultDTO;
+
+public interface ProductSyncService {
+    SyncResultDTO sync(SyncProgress progress);
+}
@@ -0,0 +1,51 @@
+package com.sapients.product_catalog_api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live counters of a running sync, also used to request its cancellation.
+ */
+public class SyncProgress {
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong pagesFetched = new AtomicLong();
+    private final AtomicLong productsFetched = new AtomicLong();
+    private final AtomicLong productsWritten = new AtomicLong();
+    private volatile boolean cancelled;
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public void setTotal(long total) {
+        this.total.set(total);
+    }
+
+    public long getPagesFetched() {
+        return pagesFetched.get();
+    }
+
+    public long getProductsFetched() {
+        return productsFetched.get();
+    }
+
+    public long getProductsWritten() {
+        return productsWritten.get();
+    }
+
+    public void pageFetched(long products) {
+        pagesFetched.incrementAndGet();
+        productsFetched.addAndGet(products);
+    }
+
+    public void productsWritten(long products) {
+        productsWritten.addAndGet(products);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+}
@@ -0,0 +1,277 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.cache.ProductCache;
+import com.sapients.product_catalog_api.cache.ProductSkuIndex;
+import com.sapients.product_catalog_api.dto.BatchItemResultDTO;
+import com.sapients.product_catalog_api.dto.BatchItemResultDTO.Status;
+import com.sapients.product_catalog_api.dto.BatchResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.ProductMapper;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.repository.ProductSkuId;
+import com.sapients.product_catalog_api.service.ProductBatchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies batches of creates, updates and deletes in chunks, one transaction per chunk, and reports a result
+ * per item. Items are validated and checked for conflicts up front, so one bad item does not fail its chunk;
+ * if a chunk still fails, its items are retried one transaction each to isolate the failing ones.
+ */
+@Slf4j
+@Service
+public class ProductBatchServiceImpl implements ProductBatchService {
+
+    @Value("${product.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final ProductSkuIndex productSkuIndex;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductBatchServiceImpl(EntityManager entityManager, ProductRepository productRepository, ProductMapper productMapper,
+                                   ProductCache productCache, ProductSkuIndex productSkuIndex, Validator validator,
+                                   PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.productCache = productCache;
+        this.productSkuIndex = productSkuIndex;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Creates the given products. Products whose ID or SKU is already taken are reported as conflicts.
+     * @param products the products to create
+     * @return the result of every item
+     */
+    @Override
+    public BatchResultDTO create(List<ProductDTO> products) {
+        return apply("create", products, ProductDTO::getId, this::validate, this::createChunk);
+    }
+
+    /**
+     * Updates the given products, matched by ID. Missing products are reported as not found and SKUs owned by
+     * another product as conflicts.
+     * @param products the products to update
+     * @return the result of every item
+     */
+    @Override
+    public BatchResultDTO update(List<ProductDTO> products) {
+        return apply("update", products, ProductDTO::getId, this::validate, this::updateChunk);
+    }
+
+    /**
+     * Deletes the products with the given IDs together with their tags, images and reviews, with one bulk
+     * statement per table and chunk.
+     * @param ids the IDs of the products to delete
+     * @return the result of every item
+     */
+    @Override
+    public BatchResultDTO delete(List<Long> ids) {
+        return apply("delete", ids, Function.identity(), id -> id == null ? "ID is required" : null, this::deleteChunk);
+    }
+
+    private <T> BatchResultDTO apply(String operation, List<T> items, Function<T, Long> idOf,
+                                     Function<T, String> validation, Function<List<Item<T>>, List<BatchItemResultDTO>> writer) {
+        long start = System.nanoTime();
+        List<BatchItemResultDTO> results = new ArrayList<>(items.size());
+        List<Item<T>> valid = new ArrayList<>(items.size());
+        Set<Long> seenIds = new HashSet<>();
+        for (int index = 0; index < items.size(); index++) {
+            T value = items.get(index);
+            String violation = value == null ? "Item is required" : validation.apply(value);
+            if (violation != null) {
+                results.add(new BatchItemResultDTO(index, value == null ? null : idOf.apply(value), Status.INVALID, violation));
+            } else if (!seenIds.add(idOf.apply(value))) {
+                results.add(new BatchItemResultDTO(index, idOf.apply(value), Status.CONFLICT, "Duplicate ID in batch"));
+            } else {
+                valid.add(new Item<>(index, idOf.apply(value), value));
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<Item<T>> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> writer.apply(chunk)));
+            } catch (RuntimeException e) {
+                log.warn("Batch {} chunk of {} items failed, retrying items one by one: {}", operation, chunk.size(), e.getMessage());
+                for (Item<T> item : chunk) {
+                    try {
+                        results.addAll(transactionTemplate.execute(status -> writer.apply(List.of(item))));
+                    } catch (RuntimeException itemFailure) {
+                        results.add(new BatchItemResultDTO(item.index(), item.id(), Status.FAILED, itemFailure.getMessage()));
+                    }
+                }
+            }
+        }
+
+        results.sort(Comparator.comparing(BatchItemResultDTO::getIndex));
+        int succeeded = (int) results.stream().filter(BatchItemResultDTO::isSucceeded).count();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Batch {} of {} items: {} succeeded, {} failed in {} ms",
+                operation, items.size(), succeeded, items.size() - succeeded, elapsedMillis);
+        return new BatchResultDTO(items.size(), succeeded, items.size() - succeeded, elapsedMillis, results);
+    }
+
+    private List<BatchItemResultDTO> createChunk(List<Item<ProductDTO>> chunk) {
+        Set<Long> takenIds = productRepository.findSkuIdsByIdIn(ids(chunk)).stream()
+                .map(ProductSkuId::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<String> takenSkus = productRepository.findSkuIdsBySkuIn(skus(chunk)).stream()
+                .map(ProductSkuId::getSku)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<BatchItemResultDTO> results = new ArrayList<>(chunk.size());
+        Map<String, Long> skus = new HashMap<>();
+        for (Item<ProductDTO> item : chunk) {
+            if (takenIds.contains(item.id())) {
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.CONFLICT, "Product already exists"));
+            } else if (!takenSkus.add(item.value().getSku())) {
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.CONFLICT, "SKU already in use"));
+            } else {
+                entityManager.persist(productMapper.toModel(item.value()));
+                productCache.evict(item.id());
+                skus.put(item.value().getSku(), item.id());
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.CREATED, null));
+            }
+        }
+        flushAndClear();
+        updateSkuIndexAfterCommit(List.of(), skus);
+        return results;
+    }
+
+    private List<BatchItemResultDTO> updateChunk(List<Item<ProductDTO>> chunk) {
+        Map<Long, Product> existing = productRepository.findAllById(ids(chunk)).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<String, Long> skuOwners = productRepository.findSkuIdsBySkuIn(skus(chunk)).stream()
+                .collect(Collectors.toMap(ProductSkuId::getSku, ProductSkuId::getId));
+
+        List<BatchItemResultDTO> results = new ArrayList<>(chunk.size());
+        List<String> replacedSkus = new ArrayList<>();
+        Map<String, Long> skus = new HashMap<>();
+        for (Item<ProductDTO> item : chunk) {
+            Product product = existing.get(item.id());
+            Long skuOwner = skuOwners.get(item.value().getSku());
+            if (product == null) {
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.NOT_FOUND, "Product not found"));
+            } else if (skuOwner != null && !skuOwner.equals(item.id())) {
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.CONFLICT, "SKU already in use"));
+            } else {
+                String previousSku = product.getSku();
+                skuOwners.put(item.value().getSku(), item.id());
+                productMapper.updateProductFromDTO(item.value(), product);
+                productCache.evict(item.id());
+                if (!Objects.equals(previousSku, product.getSku())) {
+                    replacedSkus.add(previousSku);
+                }
+                skus.put(product.getSku(), item.id());
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.UPDATED, null));
+            }
+        }
+        flushAndClear();
+        updateSkuIndexAfterCommit(replacedSkus, skus);
+        return results;
+    }
+
+    private List<BatchItemResultDTO> deleteChunk(List<Item<Long>> chunk) {
+        Map<Long, String> existing = productRepository.findSkuIdsByIdIn(ids(chunk)).stream()
+                .collect(Collectors.toMap(ProductSkuId::getId, skuId -> Objects.toString(skuId.getSku(), "")));
+        if (!existing.isEmpty()) {
+            productRepository.deleteTagsByProductIdIn(existing.keySet());
+            productRepository.deleteImagesByProductIdIn(existing.keySet());
+            productRepository.deleteReviewsByProductIdIn(existing.keySet());
+            productRepository.deleteAllByIdInBatch(existing.keySet());
+            // Bulk deletes bypass automatic indexing, so the documents are purged explicitly.
+            SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+            existing.keySet().forEach(id -> indexingPlan.purge(Product.class, id, null));
+        }
+
+        List<BatchItemResultDTO> results = new ArrayList<>(chunk.size());
+        for (Item<Long> item : chunk) {
+            if (existing.containsKey(item.id())) {
+                productCache.evict(item.id());
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.DELETED, null));
+            } else {
+                results.add(new BatchItemResultDTO(item.index(), item.id(), Status.NOT_FOUND, "Product not found"));
+            }
+        }
+        updateSkuIndexAfterCommit(existing.values(), Map.of());
+        return results;
+    }
+
+    /**
+     * Applies a chunk's SKU changes to the SKU index once its transaction commits, so a chunk that rolls back,
+     * and is then retried item by item, leaves no trace in the index.
+     * @param removedSkus SKUs no longer in use
+     * @param skus SKUs now in use, mapped to their product IDs
+     */
+    private void updateSkuIndexAfterCommit(Collection<String> removedSkus, Map<String, Long> skus) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productSkuIndex.remove(removedSkus.toArray(String[]::new));
+                skus.forEach(productSkuIndex::put);
+            }
+        });
+    }
+
+    private String validate(ProductDTO product) {
+        Set<ConstraintViolation<ProductDTO>> violations = validator.validate(product);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        Search.session(entityManager).indexingPlan().process();
+        entityManager.clear();
+    }
+
+    private static <T> List<Long> ids(List<Item<T>> chunk) {
+        return chunk.stream().map(Item::id).toList();
+    }
+
+    private static List<String> skus(List<Item<ProductDTO>> chunk) {
+        return chunk.stream().map(item -> item.value().getSku()).toList();
+    }
+
+    private record Item<T>(int index, Long id, T value) {
+    }
+}
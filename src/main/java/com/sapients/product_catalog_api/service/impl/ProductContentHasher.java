@@ -0,0 +1,34 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.exception.ProductServiceException;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes a stable SHA-256 content hash of a product from its JSON representation.
+ */
+@Component
+class ProductContentHasher {
+
+    private final ObjectWriter writer;
+
+    ProductContentHasher(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(ProductDTO.class);
+    }
+
+    String hash(ProductDTO productDTO) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(writer.writeValueAsBytes(productDTO)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new ProductServiceException("Error hashing product " + productDTO.getId(), e);
+        }
+    }
+}
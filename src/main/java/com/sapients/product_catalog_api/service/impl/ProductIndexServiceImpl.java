@@ -0,0 +1,161 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.dto.IndexStatusDTO;
+import com.sapients.product_catalog_api.dto.ReindexResultDTO;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.service.ProductIndexService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the on-disk search index in line with the database. The index survives restarts, so on startup it is
+ * only rebuilt when its document count no longer matches the product table; otherwise it is opened as is.
+ * The startup check runs as a lifecycle phase ahead of the web server's, so no request is accepted before it is done.
+ */
+@Slf4j
+@Service
+public class ProductIndexServiceImpl implements ProductIndexService, SmartLifecycle {
+
+    /**
+     * The web server starts one phase step of 1024 below graceful shutdown; this starts one step before it.
+     */
+    private static final int PHASE = WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ProductRepository productRepository;
+    private final boolean verifyOnStartup;
+    private final int defaultThreadsToLoadObjects;
+    private final int defaultBatchSizeToLoadObjects;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean running;
+
+    public ProductIndexServiceImpl(EntityManagerFactory entityManagerFactory, ProductRepository productRepository,
+                                   @Value("${product.search.verify-on-startup:true}") boolean verifyOnStartup,
+                                   @Value("${product.search.reindex.threads-to-load-objects:4}") int defaultThreadsToLoadObjects,
+                                   @Value("${product.search.reindex.batch-size-to-load-objects:50}") int defaultBatchSizeToLoadObjects) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.productRepository = productRepository;
+        this.verifyOnStartup = verifyOnStartup;
+        this.defaultThreadsToLoadObjects = defaultThreadsToLoadObjects;
+        this.defaultBatchSizeToLoadObjects = defaultBatchSizeToLoadObjects;
+    }
+
+    /**
+     * Rebuilds the index before the web server starts if it does not match the database, e.g. after the database
+     * was recreated while the index directory was kept.
+     */
+    @Override
+    public void start() {
+        running = true;
+        if (!verifyOnStartup) {
+            return;
+        }
+        IndexStatusDTO status = status();
+        if (status.getConsistent()) {
+            log.info("Search index is consistent with the database ({} products), skipping reindex", status.getDatabaseRows());
+            return;
+        }
+        log.warn("Search index holds {} documents but the database has {} products, rebuilding",
+                status.getIndexedDocuments(), status.getDatabaseRows());
+        rebuild(null, null);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Compares the number of indexed documents with the number of product rows.
+     * @return the document and row counts
+     */
+    @Override
+    public IndexStatusDTO status() {
+        long indexedDocuments;
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            indexedDocuments = Search.session(entityManager).search(Product.class)
+                    .where(f -> f.matchAll())
+                    .fetchTotalHitCount();
+        }
+        long databaseRows = productRepository.count();
+        return new IndexStatusDTO(indexedDocuments, databaseRows, indexedDocuments == databaseRows, rebuilding.get());
+    }
+
+    /**
+     * Purges the index and reindexes every product with the mass indexer, loading entities in parallel.
+     * @param threadsToLoadObjects the number of loading threads, or null for the configured default
+     * @param batchSizeToLoadObjects the number of entities loaded per query, or null for the configured default
+     * @return the reindex result, or empty if a rebuild is already running
+     */
+    @Override
+    public Optional<ReindexResultDTO> rebuild(Integer threadsToLoadObjects, Integer batchSizeToLoadObjects) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Search index rebuild already running");
+            return Optional.empty();
+        }
+        int threads = threadsToLoadObjects == null ? defaultThreadsToLoadObjects : threadsToLoadObjects;
+        int batchSize = batchSizeToLoadObjects == null ? defaultBatchSizeToLoadObjects : batchSizeToLoadObjects;
+        try {
+            long start = System.nanoTime();
+            log.info("Rebuilding search index with {} loading threads and batches of {}", threads, batchSize);
+            Search.mapping(entityManagerFactory).scope(Product.class).massIndexer()
+                    .threadsToLoadObjects(threads)
+                    .batchSizeToLoadObjects(batchSize)
+                    .startAndWait();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long documents = status().getIndexedDocuments();
+            double documentsPerSecond = elapsedMillis == 0 ? documents : documents * 1000.0 / elapsedMillis;
+            log.info("Rebuilt search index with {} documents in {} ms ({} docs/s)", documents, elapsedMillis, Math.round(documentsPerSecond));
+            return Optional.of(new ReindexResultDTO(documents, threads, batchSize, elapsedMillis, documentsPerSecond));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the search index", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Reindexes the given products from their current database state, for changes made with bulk statements,
+     * which bypass automatic indexing. Products that no longer exist are skipped.
+     * @param ids the IDs of the products to reindex
+     */
+    @Override
+    public void reindex(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            entityManager.getTransaction().begin();
+            SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+            entityManager.createQuery("select p from Product p where p.id in :ids", Product.class)
+                    .setParameter("ids", ids)
+                    .getResultList()
+                    .forEach(indexingPlan::addOrUpdate);
+            entityManager.getTransaction().commit();
+        }
+        log.debug("Reindexed {} products", ids.size());
+    }
+}
@@ -0,0 +1,147 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.cache.ProductCache;
+import com.sapients.product_catalog_api.cache.ProductSkuIndex;
+import com.sapients.product_catalog_api.dto.IngestResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.ProductMapper;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.service.ProductIngestService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes products in chunks, one transaction per chunk.
+ * New products are persisted directly instead of merged, so inserts of products, tags, images and reviews
+ * go out as JDBC batches; existing products in a chunk are loaded with a single query and updated in place.
+ * The persistence context is flushed and cleared after every chunk, and the SKU index and product cache are updated
+ * once it commits.
+ */
+@Slf4j
+@Service
+public class ProductIngestServiceImpl implements ProductIngestService {
+
+    @Value("${product.ingest.chunk-size:500}")
+    private int chunkSize;
+
+    @PersistenceContext
+    private final EntityManager entityManager;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductContentHasher productContentHasher;
+    private final ProductSkuIndex productSkuIndex;
+    private final ProductCache productCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductIngestServiceImpl(EntityManager entityManager, ProductRepository productRepository, ProductMapper productMapper,
+                                    ProductContentHasher productContentHasher, ProductSkuIndex productSkuIndex,
+                                    ProductCache productCache, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.productContentHasher = productContentHasher;
+        this.productSkuIndex = productSkuIndex;
+        this.productCache = productCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Inserts or updates the given products in chunks.
+     * @param productDTOs the products to write; when an ID occurs more than once, the last occurrence wins
+     * @return the number of rows written and the throughput
+     */
+    @Override
+    public IngestResultDTO ingest(List<ProductDTO> productDTOs) {
+        long start = System.nanoTime();
+        List<ProductDTO> products = new ArrayList<>(productDTOs.stream()
+                .collect(Collectors.toMap(ProductDTO::getId, Function.identity(), (first, last) -> last, LinkedHashMap::new))
+                .values());
+
+        long inserted = 0;
+        long updated = 0;
+        for (int from = 0; from < products.size(); from += chunkSize) {
+            List<ProductDTO> chunk = products.subList(from, Math.min(from + chunkSize, products.size()));
+            long chunkStart = System.nanoTime();
+            long chunkInserted = transactionTemplate.execute(status -> writeChunk(chunk));
+            inserted += chunkInserted;
+            updated += chunk.size() - chunkInserted;
+            log.debug("Wrote chunk of {} products ({} rows/sec)", chunk.size(), rowsPerSecond(chunk.size(), System.nanoTime() - chunkStart));
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        IngestResultDTO result = new IngestResultDTO(inserted + updated, inserted, updated, elapsedNanos / 1_000_000,
+                rowsPerSecond(inserted + updated, elapsedNanos));
+        log.info("Ingested {} products ({} inserted, {} updated) in {} ms ({} rows/sec)",
+                result.getRowsWritten(), inserted, updated, result.getElapsedMillis(), result.getRowsPerSecond());
+        return result;
+    }
+
+    /**
+     * Writes one chunk inside the current transaction, then flushes and clears the persistence context. The SKU index
+     * is updated and the updated products are evicted from the cache once the transaction commits.
+     * @param chunk the products to write
+     * @return the number of products that were inserted
+     */
+    private long writeChunk(List<ProductDTO> chunk) {
+        Map<Long, Product> existing = productRepository
+                .findAllById(chunk.stream().map(ProductDTO::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        long inserted = 0;
+        List<String> replacedSkus = new ArrayList<>();
+        Map<String, Long> skus = new HashMap<>();
+        for (ProductDTO productDTO : chunk) {
+            Product product = existing.get(productDTO.getId());
+            if (product == null) {
+                product = productMapper.toModel(productDTO);
+                product.setContentHash(productContentHasher.hash(productDTO));
+                entityManager.persist(product);
+                inserted++;
+            } else {
+                if (!Objects.equals(product.getSku(), productDTO.getSku())) {
+                    replacedSkus.add(product.getSku());
+                }
+                productMapper.updateProductFromDTO(productDTO, product);
+                product.setContentHash(productContentHasher.hash(productDTO));
+                productCache.evict(product.getId());
+            }
+            skus.put(product.getSku(), product.getId());
+        }
+
+        entityManager.flush();
+        Search.session(entityManager).indexingPlan().process();
+        entityManager.clear();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productSkuIndex.remove(replacedSkus.toArray(String[]::new));
+                skus.forEach(productSkuIndex::put);
+            }
+        });
+        return inserted;
+    }
+
+    private static double rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : Math.round(rows * 1_000_000_000.0 / elapsedNanos * 10) / 10.0;
+    }
+}
@@ -0,0 +1,159 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.dto.LoadJobDTO;
+import com.sapients.product_catalog_api.service.ProductLoadJobService;
+import com.sapients.product_catalog_api.service.ProductSyncService;
+import com.sapients.product_catalog_api.service.SyncProgress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs product loads as background jobs. At most one load runs at a time: submitting while a load is running
+ * returns the running job instead of starting another one. Finished jobs are kept for status queries
+ * until {@link #MAX_RETAINED_JOBS} newer jobs have been submitted.
+ */
+@Slf4j
+@Service
+public class ProductLoadJobServiceImpl implements ProductLoadJobService {
+
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private final ProductSyncService productSyncService;
+    private final Executor productLoadExecutor;
+    private final AtomicReference<LoadJob> runningJob = new AtomicReference<>();
+    private final Map<String, LoadJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LoadJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+
+    public ProductLoadJobServiceImpl(ProductSyncService productSyncService,
+                                     @Qualifier("productLoadExecutor") Executor productLoadExecutor) {
+        this.productSyncService = productSyncService;
+        this.productLoadExecutor = productLoadExecutor;
+    }
+
+    /**
+     * Starts a load job, or returns the running one.
+     * @return the state of the started or running job
+     */
+    @Override
+    public LoadJobDTO submit() {
+        LoadJob job = new LoadJob(UUID.randomUUID().toString());
+        if (!runningJob.compareAndSet(null, job)) {
+            LoadJob running = runningJob.get();
+            if (running != null && running.status == LoadJobDTO.Status.RUNNING) {
+                log.info("Load job {} already running", running.id);
+                return running.toDTO();
+            }
+            // A finished job no longer holds the slot, even if it has not released it yet.
+            runningJob.compareAndSet(running, null);
+            return submit();
+        }
+        jobs.put(job.id, job);
+        try {
+            productLoadExecutor.execute(() -> run(job));
+        } catch (RuntimeException e) {
+            runningJob.set(null);
+            job.finish(LoadJobDTO.Status.FAILED, e.getMessage());
+            throw e;
+        }
+        log.info("Load job {} submitted", job.id);
+        return job.toDTO();
+    }
+
+    /**
+     * Returns the state of a job.
+     * @param jobId the ID of the job
+     * @return the job state, or empty when the job is unknown
+     */
+    @Override
+    public Optional<LoadJobDTO> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(LoadJob::toDTO);
+    }
+
+    /**
+     * Requests cancellation of a running job. The job stops before its next page; pages already written stay written.
+     * @param jobId the ID of the job
+     * @return the job state, or empty when the job is unknown
+     */
+    @Override
+    public Optional<LoadJobDTO> cancel(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(job -> {
+            job.progress.cancel();
+            log.info("Cancellation requested for load job {}", jobId);
+            return job.toDTO();
+        });
+    }
+
+    /**
+     * Runs a job and releases the slot before reporting it finished, so a submit that sees the job finished
+     * starts a new one instead of being handed this one.
+     */
+    private void run(LoadJob job) {
+        LoadJobDTO.Status status = LoadJobDTO.Status.FAILED;
+        String error = null;
+        try {
+            productSyncService.sync(job.progress);
+            status = job.progress.isCancelled() ? LoadJobDTO.Status.CANCELLED : LoadJobDTO.Status.COMPLETED;
+        } catch (Exception e) {
+            log.error("Load job {} failed: {}", job.id, e.getMessage());
+            error = e.getMessage();
+        } finally {
+            runningJob.compareAndSet(job, null);
+            job.finish(status, error);
+            log.info("Load job {} finished with status {}", job.id, status);
+        }
+    }
+
+    private static final class LoadJob {
+        private final String id;
+        private final SyncProgress progress = new SyncProgress();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private volatile LoadJobDTO.Status status = LoadJobDTO.Status.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishNanos;
+        private volatile String error;
+
+        private LoadJob(String id) {
+            this.id = id;
+        }
+
+        private void finish(LoadJobDTO.Status status, String error) {
+            this.finishNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.status = status;
+        }
+
+        private LoadJobDTO toDTO() {
+            long elapsedNanos = (finishedAt == null ? System.nanoTime() : finishNanos) - startNanos;
+            double rowsPerSecond = elapsedNanos == 0 ? 0
+                    : Math.round(progress.getProductsWritten() * 1_000_000_000.0 / elapsedNanos * 10) / 10.0;
+            return LoadJobDTO.builder()
+                    .jobId(id)
+                    .status(status)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .total(progress.getTotal())
+                    .pagesFetched(progress.getPagesFetched())
+                    .productsFetched(progress.getProductsFetched())
+                    .productsWritten(progress.getProductsWritten())
+                    .rowsPerSecond(rowsPerSecond)
+                    .error(error)
+                    .build();
+        }
+    }
+}
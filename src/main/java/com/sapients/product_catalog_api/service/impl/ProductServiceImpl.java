@@ -1,33 +1,89 @@
 package com.sapients.product_catalog_api.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sapients.product_catalog_api.cache.ProductCache;
+import com.sapients.product_catalog_api.cache.ProductSkuIndex;
+import com.sapients.product_catalog_api.config.ProductRepresentation;
 import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.BatchItemResultDTO;
+import com.sapients.product_catalog_api.dto.BatchResultDTO;
+import com.sapients.product_catalog_api.dto.CacheStatsDTO;
+import com.sapients.product_catalog_api.dto.CursorPageDTO;
+import com.sapients.product_catalog_api.dto.IndexStatusDTO;
+import com.sapients.product_catalog_api.dto.LoadJobDTO;
 import com.sapients.product_catalog_api.dto.ProductDTO;
-import com.sapients.product_catalog_api.dto.ProductResponseDTO;
+import com.sapients.product_catalog_api.dto.ProductSearchFilterDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.dto.ReindexResultDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.dto.SearchHitDTO;
+import com.sapients.product_catalog_api.dto.SearchPageDTO;
 import com.sapients.product_catalog_api.exception.ProductServiceException;
 import com.sapients.product_catalog_api.mapper.ProductMapper;
+import com.sapients.product_catalog_api.metrics.ProductMetrics;
 import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.model.Review;
 import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.repository.ProductSummary;
+import com.sapients.product_catalog_api.service.ProductBatchService;
+import com.sapients.product_catalog_api.service.ProductIndexService;
+import com.sapients.product_catalog_api.service.ProductLoadJobService;
 import com.sapients.product_catalog_api.service.ProductService;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.sapients.product_catalog_api.service.ProductStockService;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
-import kong.unirest.HttpResponse;
-import kong.unirest.Unirest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.search.engine.common.EntityReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.projection.dsl.ProjectionFinalStep;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Collections;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * REST service for managing products.
@@ -37,19 +93,91 @@ import java.util.stream.Collectors;
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    private static final AggregationKey<Map<String, Long>> CATEGORY_FACET = AggregationKey.of("category");
+    private static final AggregationKey<Map<String, Long>> TAG_FACET = AggregationKey.of("tags");
+    private static final AggregationKey<Map<String, Long>> AVAILABILITY_FACET = AggregationKey.of("availabilityStatus");
+    private static final AggregationKey<Map<Range<Double>, Long>> PRICE_FACET = AggregationKey.of("price");
+    private static final AggregationKey<Map<Range<Double>, Long>> RATING_FACET = AggregationKey.of("rating");
+
     @Value("${external.api.url}")
     private String externalApiUrl;
 
+    @Value("${product.pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${product.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${product.search.title-boost:3.0}")
+    private float searchTitleBoost;
+
+    @Value("${product.search.description-boost:1.0}")
+    private float searchDescriptionBoost;
+
+    @Value("${product.search.max-result-window:10000}")
+    private int searchMaxResultWindow;
+
+    @Value("${product.autocomplete.default-limit:10}")
+    private int autocompleteDefaultLimit;
+
+    @Value("${product.autocomplete.max-limit:20}")
+    private int autocompleteMaxLimit;
+
+    @Value("${product.search.max-facet-terms:20}")
+    private int searchMaxFacetTerms;
+
+    @Value("${product.search.price-buckets:10,25,50,100,250,500,1000}")
+    private double[] searchPriceBuckets;
+
+    @Value("${product.search.rating-buckets:1,2,3,4}")
+    private double[] searchRatingBuckets;
+
+    @Value("${product.batch.max-items:10000}")
+    private int batchMaxItems;
+
     @PersistenceContext
     private final EntityManager entityManager;
 
+    private final EntityManagerFactory entityManagerFactory;
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final ProductSkuIndex productSkuIndex;
+    private final ProductLoadJobService productLoadJobService;
+    private final ProductIndexService productIndexService;
+    private final ProductBatchService productBatchService;
+    private final ProductStockService productStockService;
+    private final ProductMetrics productMetrics;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ObjectWriter ndjsonWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
 
-    public ProductServiceImpl(EntityManager entityManager, ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductServiceImpl(EntityManager entityManager, EntityManagerFactory entityManagerFactory, ProductRepository productRepository,
+                              ProductMapper productMapper, ProductCache productCache, ProductSkuIndex productSkuIndex,
+                              ProductLoadJobService productLoadJobService,
+                              ProductIndexService productIndexService, ProductBatchService productBatchService,
+                              ProductStockService productStockService, ProductMetrics productMetrics,
+                              ObjectMapper objectMapper, Validator validator, PlatformTransactionManager transactionManager) {
         this.entityManager = entityManager;
+        this.entityManagerFactory = entityManagerFactory;
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.productCache = productCache;
+        this.productSkuIndex = productSkuIndex;
+        this.productLoadJobService = productLoadJobService;
+        this.productIndexService = productIndexService;
+        this.productBatchService = productBatchService;
+        this.productStockService = productStockService;
+        this.productMetrics = productMetrics;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.ndjsonWriter = objectMapper.writerFor(ProductDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     /**
@@ -59,12 +187,22 @@ public class ProductServiceImpl implements ProductService {
      */
     @Override
     public ResponseEntity<ApiResponse<ProductDTO>> createProduct(ProductDTO productDTO) {
-        log.info("Creating product: {}", productDTO);
+        log.info("Creating product with ID: {}", productDTO.getId());
         try {
+            if (productRepository.existsById(productDTO.getId())) {
+                log.warn("Product already exists with ID: {}", productDTO.getId());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, "Product already exists", null));
+            }
             Product product = productMapper.toModel(productDTO);
             ProductDTO savedProduct = productMapper.toDTO(productRepository.save(product));
-            log.info("Product created: {}", savedProduct);
+            productCache.evict(savedProduct.getId());
+            productSkuIndex.put(savedProduct.getSku(), savedProduct.getId());
+            log.info("Product created with ID: {}", savedProduct.getId());
             return ResponseEntity.ok(new ApiResponse<>(true, "Product created successfully", savedProduct));
+        } catch (DataIntegrityViolationException e) {
+            // Another request created the same ID in the meantime, or the SKU is taken.
+            log.warn("Product conflicts with an existing product, ID: {}", productDTO.getId());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, "Product ID or SKU already exists", null));
         } catch (Exception e) {
             log.error("Error creating product: {}", e.getMessage());
             throw new ProductServiceException("Error creating product", e);
@@ -72,22 +210,30 @@ public class ProductServiceImpl implements ProductService {
     }
 
     /**
-     * Retrieves all products.
-     * @return the response entity containing the API response with the list of all products
+     * Retrieves one keyset page of products, ordered by ID. One product more than the page size is read to tell
+     * whether another page follows; past the last product the page is empty and has no cursor.
+     * @param after the ID of the last product on the previous page, or null for the first page
+     * @param size the requested page size, capped at the configured maximum
+     * @param fields the product properties to map, or null for all of them
+     * @return the response entity containing the API response with the page of products
      */
     @Override
-    public ResponseEntity<ApiResponse<List<ProductDTO>>> getAllProducts() {
-        log.info("Fetching all products");
+    public ResponseEntity<ApiResponse<CursorPageDTO<ProductDTO>>> getAllProducts(Long after, Integer size, Set<String> fields) {
+        int pageSize = resolvePageSize(size);
+        log.debug("Fetching products after ID: {} with page size: {}", after, pageSize);
         try {
-            List<ProductDTO> products = productRepository.findAll().stream()
-                    .map(productMapper::toDTO)
+            List<Product> page = productRepository
+                    .findByIdGreaterThanOrderByIdAsc(after == null ? Long.MIN_VALUE : after, Limit.of(pageSize + 1));
+            boolean hasNext = page.size() > pageSize;
+            Timer.Sample mapping = productMetrics.start();
+            List<ProductDTO> products = page.subList(0, Math.min(page.size(), pageSize)).stream()
+                    .map(product -> productMapper.toDTO(product, fields))
                     .collect(Collectors.toList());
-            if (products.isEmpty()) {
-                log.info("No products found");
-                return ResponseEntity.ok(new ApiResponse<>(false, "Product not found", null));
-            }
-            log.info("Fetched {} products", products.size());
-            return ResponseEntity.ok(new ApiResponse<>(true, "Products retrieved successfully", products));
+            productMetrics.recordMapper(mapping, "list");
+            Long nextCursor = hasNext ? products.get(products.size() - 1).getId() : null;
+            log.debug("Fetched {} products", products.size());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Products retrieved successfully",
+                    new CursorPageDTO<>(products, products.size(), nextCursor)));
         } catch (Exception e) {
             log.error("Error fetching all products: {}", e.getMessage());
             throw new ProductServiceException("Error fetching all products", e);
@@ -95,21 +241,156 @@ public class ProductServiceImpl implements ProductService {
     }
 
     /**
-     * Retrieves a product by its ID.
+     * Retrieves one page of product summaries, keyset-paginated like {@link #getAllProducts}. Only the summary
+     * columns are selected, so neither product entities nor their collections are loaded.
+     * @param after the ID of the last product on the previous page, or null for the first page
+     * @param size the requested page size, capped at the configured maximum
+     * @return the response entity containing the API response with the page of product summaries
+     */
+    @Override
+    public ResponseEntity<ApiResponse<CursorPageDTO<ProductSummaryDTO>>> getProductSummaries(Long after, Integer size) {
+        int pageSize = resolvePageSize(size);
+        log.debug("Fetching product summaries after ID: {} with page size: {}", after, pageSize);
+        try {
+            List<ProductSummary> summaries = productRepository
+                    .findSummariesByIdGreaterThan(after == null ? Long.MIN_VALUE : after, Limit.of(pageSize + 1));
+            boolean hasNext = summaries.size() > pageSize;
+            int count = Math.min(summaries.size(), pageSize);
+            Timer.Sample mapping = productMetrics.start();
+            List<ProductSummaryDTO> products = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                products.add(productMapper.toSummaryDTO(summaries.get(i)));
+            }
+            productMetrics.recordMapper(mapping, "list_summaries");
+            Long nextCursor = hasNext ? products.get(products.size() - 1).getId() : null;
+            log.debug("Fetched {} product summaries", products.size());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Products retrieved successfully",
+                    new CursorPageDTO<>(products, products.size(), nextCursor)));
+        } catch (Exception e) {
+            log.error("Error fetching product summaries: {}", e.getMessage());
+            throw new ProductServiceException("Error fetching product summaries", e);
+        }
+    }
+
+    /**
+     * Streams all products as newline-delimited JSON, one product per line.
+     * Products are mapped and written in chunks so their collections are batch-fetched together,
+     * then detached, so memory stays flat regardless of catalog size.
+     * @return the response entity containing the streaming body
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamAllProducts() {
+        log.info("Streaming all products");
+        StreamingResponseBody body = outputStream -> readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            long count = 0;
+            List<Product> chunk = new ArrayList<>(Product.COLLECTION_BATCH_SIZE);
+            try (Stream<Product> products = productRepository.streamAllByOrderByIdAsc();
+                 JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                         .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                Iterator<Product> iterator = products.iterator();
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == Product.COLLECTION_BATCH_SIZE || !iterator.hasNext()) {
+                        writeChunk(chunk, generator);
+                        count += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                log.info("Streamed {} products", count);
+            } catch (IOException e) {
+                log.error("Error streaming products: {}", e.getMessage());
+                throw new ProductServiceException("Error streaming products", e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Loads and maps a product by its ID on a cache miss.
+     * @param id the ID of the product
+     * @return the mapped product, or null when it does not exist
+     */
+    private ProductDTO loadProductById(Long id) {
+        return readOnlyTransactionTemplate.execute(status -> productRepository.findById(id)
+                .map(productMapper::toDTO)
+                .orElse(null));
+    }
+
+    /**
+     * Resolves a SKU to a product ID through the SKU index and reads the product through the ID cache.
+     * A mapping that no longer matches the product's SKU is dropped and the SKU resolved again.
+     * @param sku the SKU of the product
+     * @return the mapped product, or empty when it does not exist
+     */
+    private Optional<ProductDTO> findProductBySku(String sku) {
+        Optional<ProductDTO> product = productSkuIndex.resolve(sku).map(id -> productCache.getById(id, this::loadProductById));
+        if (product.isPresent() && !sku.equals(product.get().getSku())) {
+            log.debug("SKU {} no longer belongs to product {}, resolving again", sku, product.get().getId());
+            productSkuIndex.remove(sku);
+            product = productSkuIndex.resolve(sku).map(id -> productCache.getById(id, this::loadProductById));
+        }
+        return product.filter(found -> sku.equals(found.getSku()));
+    }
+
+    /**
+     * Writes a chunk of products as NDJSON lines and detaches them from the persistence context.
+     * @param chunk the products to write
+     * @param generator the generator writing to the response
+     */
+    private void writeChunk(List<Product> chunk, JsonGenerator generator) throws IOException {
+        for (Product product : chunk) {
+            ndjsonWriter.writeValue(generator, productMapper.toDTO(product));
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        chunk.forEach(entityManager::detach);
+    }
+
+    /**
+     * Applies the default page size and caps the requested one.
+     * @param size the requested page size, may be null
+     * @return the effective page size
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Retrieves a product by its ID, with the ETag of its version in the requested format. If {@code If-None-Match}
+     * matches it, answers 304 from the cached product or the version column alone, without loading, mapping or
+     * serializing it. Both answers vary by {@code Accept}.
      * @param id the ID of the product
+     * @param ifNoneMatch the If-None-Match header, or null
+     * @param representation the negotiated format, one of {@link ProductRepresentation#MEDIA_TYPES}
      * @return the response entity containing the API response with the product
      */
     @Override
-    public ResponseEntity<ApiResponse<ProductDTO>> getProductById(Long id) {
-        log.info("Fetching product by ID: {}", id);
+    public ResponseEntity<ApiResponse<ProductDTO>> getProductById(Long id, String ifNoneMatch, MediaType representation) {
+        log.debug("Fetching product by ID: {}", id);
         try {
-            return productRepository.findById(id)
+            if (ifNoneMatch != null) {
+                ProductDTO cached = productCache.peek(id);
+                Optional<Long> version = cached != null ? Optional.ofNullable(cached.getVersion()) : productRepository.findVersionById(id);
+                if (version.isPresent() && matchesETag(ifNoneMatch, version.get(), true, representation)) {
+                    log.debug("Product not modified with ID: {}", id);
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(ProductRepresentation.eTag(version.get(), representation))
+                            .varyBy(HttpHeaders.ACCEPT).build();
+                }
+            }
+            return Optional.ofNullable(productCache.getById(id, this::loadProductById))
                     .map(product -> {
-                        log.info("Product found: {}", product);
-                        return ResponseEntity.ok(new ApiResponse<>(true, "Product retrieved successfully", productMapper.toDTO(product)));
+                        log.debug("Product found with ID: {}", id);
+                        return ResponseEntity.ok().eTag(ProductRepresentation.eTag(product.getVersion(), representation))
+                                .varyBy(HttpHeaders.ACCEPT).contentType(representation)
+                                .body(new ApiResponse<>(true, "Product retrieved successfully", product));
                     })
                     .orElseGet(() -> {
-                        log.warn("Product not found with ID: {}", id);
+                        log.debug("Product not found with ID: {}", id);
                         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
                     });
         } catch (Exception e) {
@@ -119,88 +400,125 @@ public class ProductServiceImpl implements ProductService {
     }
 
     /**
-     * Loads products from an external API.
-     * @return the response entity containing the API response with a success message
+     * Retrieves one page of a product's reviews in the order they were added, using the ID of the last review of the
+     * previous page as cursor. Only the reviews of the page are read; the product is only looked up when the page is
+     * empty, to tell a product without further reviews from a missing one.
+     * @param id the ID of the product
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, capped at the configured maximum
+     * @return the response entity containing the API response with the page of reviews
      */
     @Override
-    @Transactional
-    @Retry(name = "loadProducts", fallbackMethod = "fallbackLoadProducts")
-    public ResponseEntity<ApiResponse<String>> loadProducts() {
-        log.info("Loading products from external API: {}", externalApiUrl);
+    public ResponseEntity<ApiResponse<CursorPageDTO<ReviewDTO>>> getProductReviews(Long id, Long after, Integer size) {
+        int pageSize = resolvePageSize(size);
+        log.debug("Fetching reviews of product ID: {} after review ID: {} with page size: {}", id, after, pageSize);
         try {
-            HttpResponse<ProductResponseDTO> response = fetchProductDataFromExternalApi();
-
-            if (response.getStatus() == 200 && response.getBody() != null) {
-                log.info("Successfully fetched products from external API");
-                saveProducts(response.getBody().getProducts());
-                return ResponseEntity.ok(new ApiResponse<>(true, "Products loaded successfully", ""));
-            } else {
-                log.error("Failed to fetch products: {}", response.getStatusText());
-                throw new ProductServiceException("Failed to fetch products: " + response.getStatusText());
+            List<Review> reviews = productRepository.findReviewsByProductId(id, after == null ? Long.MIN_VALUE : after, Limit.of(pageSize));
+            if (reviews.isEmpty() && !productRepository.existsById(id)) {
+                log.debug("Product not found with ID: {}", id);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
             }
+            Long nextCursor = reviews.size() < pageSize ? null : reviews.get(reviews.size() - 1).getId();
+            Timer.Sample mapping = productMetrics.start();
+            List<ReviewDTO> items = productMapper.toReviewDTOs(reviews);
+            productMetrics.recordMapper(mapping, "reviews");
+            return ResponseEntity.ok(new ApiResponse<>(true, "Reviews retrieved successfully",
+                    new CursorPageDTO<>(items, reviews.size(), nextCursor)));
         } catch (Exception e) {
-            log.error("Error loading products: {}", e.getMessage());
-            throw new ProductServiceException("Error loading products", e);
+            log.error("Error fetching reviews of product ID {}: {}", id, e.getMessage());
+            throw new ProductServiceException("Error fetching product reviews", e);
         }
     }
 
     /**
-     * Fetches product data from the external API.
-     * @return the HTTP response containing the product response DTO
+     * Submits a background job that loads products from an external API.
+     * If a load is already running, the running job is returned instead of starting another one.
+     * @return the response entity containing the API response with the job state
      */
-    private HttpResponse<ProductResponseDTO> fetchProductDataFromExternalApi() {
-        return Unirest.get(externalApiUrl).asObject(ProductResponseDTO.class);
+    @Override
+    public ResponseEntity<ApiResponse<LoadJobDTO>> loadProducts() {
+        log.info("Loading products from external API: {}", externalApiUrl);
+        try {
+            LoadJobDTO job = productLoadJobService.submit();
+            return ResponseEntity.accepted().body(new ApiResponse<>(true, "Product load accepted", job));
+        } catch (Exception e) {
+            log.error("Error loading products: {}", e.getMessage());
+            throw new ProductServiceException("Error loading products", e);
+        }
     }
 
     /**
-     * Saves a list of products.
-     * @param productDTOs the list of product data transfer objects
+     * Retrieves the state and progress of a load job.
+     * @param jobId the ID of the job
+     * @return the response entity containing the API response with the job state
      */
-    private void saveProducts(List<ProductDTO> productDTOs) {
-        try {
-            List<Product> products = productDTOs.stream()
-                    .map(productMapper::toModel)
-                    .collect(Collectors.toList());
-            productRepository.saveAll(products);
-            log.info("Saved {} products", products.size());
-        } catch (ObjectOptimisticLockingFailureException e) {
-            log.error("Product was updated or deleted by another transaction", e);
-            throw new ProductServiceException("Product was updated or deleted by another transaction", e);
-        } catch (Exception e) {
-            log.error("Error saving products: {}", e.getMessage());
-            throw new ProductServiceException("Error saving products", e);
-        }
+    @Override
+    public ResponseEntity<ApiResponse<LoadJobDTO>> getLoadJob(String jobId) {
+        return productLoadJobService.find(jobId)
+                .map(job -> ResponseEntity.ok(new ApiResponse<>(true, "Load job retrieved successfully", job)))
+                .orElseGet(() -> {
+                    log.warn("Load job not found with ID: {}", jobId);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Load job not found", null));
+                });
     }
 
     /**
-     * Fallback method for loading products.
-     * @param t the throwable
+     * Requests cancellation of a load job.
+     * @param jobId the ID of the job
+     * @return the response entity containing the API response with the job state
      */
-    private void fallbackLoadProducts(Throwable t) {
-        log.error("Failed to load products from external API: {}", t.getMessage());
+    @Override
+    public ResponseEntity<ApiResponse<LoadJobDTO>> cancelLoadJob(String jobId) {
+        log.info("Cancelling load job: {}", jobId);
+        return productLoadJobService.cancel(jobId)
+                .map(job -> ResponseEntity.ok(new ApiResponse<>(true, "Load job cancellation requested", job)))
+                .orElseGet(() -> {
+                    log.warn("Load job not found with ID: {}", jobId);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Load job not found", null));
+                });
     }
 
     /**
-     * Updates a product by its ID.
+     * Updates a product by its ID. With {@code If-Match}, the update only applies to the version the client last saw;
+     * a stale version is rejected with 412 from the version column alone, before the product is loaded.
      * @param id the ID of the product
      * @param productDTO the product data transfer object
+     * @param ifMatch the If-Match header, or null
      * @return the response entity containing the API response with the updated product
      */
     @Override
-    public ResponseEntity<ApiResponse<ProductDTO>> updateProduct(Long id, ProductDTO productDTO) {
+    public ResponseEntity<ApiResponse<ProductDTO>> updateProduct(Long id, ProductDTO productDTO, String ifMatch) {
         log.info("Updating product with ID: {}", id);
         try {
+            Optional<Long> storedVersion = ifMatch == null ? Optional.empty() : productRepository.findVersionById(id);
+            if (storedVersion.isPresent() && !matchesETag(ifMatch, storedVersion.get(), false, ProductRepresentation.MEDIA_TYPES)) {
+                return preconditionFailed(id, storedVersion.get());
+            }
             return productRepository.findById(id)
                     .map(product -> {
+                        if (ifMatch != null && !matchesETag(ifMatch, product.getVersion(), false, ProductRepresentation.MEDIA_TYPES)) {
+                            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag(product.getVersion()))
+                                    .body(new ApiResponse<ProductDTO>(false, "Product has been modified", null));
+                        }
+                        String previousSku = product.getSku();
                         productMapper.updateProductFromDTO(productDTO, product);
                         ProductDTO updatedProduct = productMapper.toDTO(productRepository.save(product));
-                        log.info("Product updated: {}", updatedProduct);
-                        return ResponseEntity.ok(new ApiResponse<>(true, "Product updated successfully", updatedProduct));
+                        productCache.evict(id);
+                        if (!Objects.equals(previousSku, updatedProduct.getSku())) {
+                            productSkuIndex.remove(previousSku);
+                        }
+                        productSkuIndex.put(updatedProduct.getSku(), id);
+                        log.info("Product updated with ID: {}", id);
+                        return ResponseEntity.ok().eTag(eTag(updatedProduct.getVersion()))
+                                .body(new ApiResponse<>(true, "Product updated successfully", updatedProduct));
                     })
                     .orElseGet(() -> {
                         log.warn("Product not found with ID: {}", id);
                         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
                     });
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Product modified concurrently with ID: {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, "Product was modified concurrently", null));
         } catch (Exception e) {
             log.error("Error updating product: {}", e.getMessage());
             throw new ProductServiceException("Error updating product", e);
@@ -208,7 +526,147 @@ public class ProductServiceImpl implements ProductService {
     }
 
     /**
-     * Deletes a product by its ID.
+     * Applies a JSON merge patch (RFC 7396) to a product: fields in the patch replace the product's, {@code null}
+     * clears them and nested objects are merged. Reviews are the exception: reads leave them out and a product keeps at
+     * least one, so {@code "reviews": null} is rejected. The patched product must still be valid. Only the changed columns
+     * and collection elements are written, and the search index is only updated if an indexed field changed.
+     * With {@code If-Match}, the patch only applies to the version the client last saw. The patch runs in a
+     * transaction of its own, so a concurrent update detected when it is flushed is answered with 409.
+     * @param id the ID of the product
+     * @param patch the merge patch
+     * @param ifMatch the If-Match header, or null
+     * @return the response entity containing the API response with the patched product
+     */
+    @Override
+    public ResponseEntity<ApiResponse<ProductDTO>> patchProduct(Long id, JsonNode patch, String ifMatch) {
+        log.info("Patching product with ID: {}", id);
+        if (patch == null || !patch.isObject()) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Merge patch must be a JSON object", null));
+        }
+        if (patch.has("reviews") && patch.get("reviews").isNull()) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Reviews cannot be cleared", null));
+        }
+        try {
+            Optional<Long> storedVersion = ifMatch == null ? Optional.empty() : productRepository.findVersionById(id);
+            if (storedVersion.isPresent() && !matchesETag(ifMatch, storedVersion.get(), false, ProductRepresentation.MEDIA_TYPES)) {
+                return preconditionFailed(id, storedVersion.get());
+            }
+            return transactionTemplate.execute(status -> applyPatch(id, patch, ifMatch));
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Product modified concurrently with ID: {}", id);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, "Product was modified concurrently", null));
+        } catch (Exception e) {
+            log.error("Error patching product: {}", e.getMessage());
+            throw new ProductServiceException("Error patching product", e);
+        }
+    }
+
+    /**
+     * Loads the product, applies the patch and flushes it inside the current transaction. The cache and the SKU index
+     * are updated once the transaction commits.
+     */
+    private ResponseEntity<ApiResponse<ProductDTO>> applyPatch(Long id, JsonNode patch, String ifMatch) {
+        Optional<Product> found = productRepository.findById(id);
+        if (found.isEmpty()) {
+            log.warn("Product not found with ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
+        }
+        Product product = found.get();
+        // The version may have moved on between the If-Match check and loading the product.
+        if (ifMatch != null && !matchesETag(ifMatch, product.getVersion(), false, ProductRepresentation.MEDIA_TYPES)) {
+            return preconditionFailed(id, product.getVersion());
+        }
+
+        // Only the patched fields are read back from JSON, so the others keep their exact values and stay clean.
+        ProductDTO patched = productMapper.toDTO(product);
+        JsonNode current = objectMapper.valueToTree(patched);
+        ObjectNode changes = objectMapper.createObjectNode();
+        patch.fields().forEachRemaining(field -> changes.set(field.getKey(), mergePatch(current.get(field.getKey()), field.getValue())));
+        try {
+            objectMapper.readerForUpdating(patched).readValue(changes);
+        } catch (IOException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Invalid merge patch: " + e.getMessage(), null));
+        }
+        if (!id.equals(patched.getId())) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Product ID cannot be changed", null));
+        }
+        Set<ConstraintViolation<ProductDTO>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, message, null));
+        }
+
+        String previousSku = product.getSku();
+        productMapper.updateProductFromDTO(patched, product);
+        // Flushed through the repository so a stale version surfaces as OptimisticLockingFailureException.
+        productRepository.saveAndFlush(product);
+        String sku = product.getSku();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productCache.evict(id);
+                if (!Objects.equals(previousSku, sku)) {
+                    productSkuIndex.remove(previousSku);
+                }
+                productSkuIndex.put(sku, id);
+            }
+        });
+        log.info("Product patched with ID: {}", id);
+        return ResponseEntity.ok().eTag(eTag(product.getVersion()))
+                .body(new ApiResponse<>(true, "Product patched successfully", productMapper.toDTO(product)));
+    }
+
+    /**
+     * The ETag of write responses, which are answered in JSON unless the client asks otherwise.
+     */
+    private static String eTag(Long version) {
+        return ProductRepresentation.eTag(version, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Checks a conditional header against a version. If-Match compares strongly, If-None-Match weakly.
+     */
+    private static boolean matchesETag(String header, Long version, boolean weak, MediaType representation) {
+        return matchesETag(header, version, weak, List.of(representation));
+    }
+
+    /**
+     * Checks a conditional header against the ETags of a version in any of the given formats.
+     */
+    private static boolean matchesETag(String header, Long version, boolean weak, List<MediaType> representations) {
+        List<String> current = representations.stream().map(representation -> ProductRepresentation.eTag(version, representation)).toList();
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || current.contains(tag)
+                        || (weak && tag.startsWith("W/") && current.contains(tag.substring(2))));
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> preconditionFailed(Long id, Long version) {
+        log.warn("Stale If-Match for product with ID: {}", id);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(eTag(version))
+                .body(new ApiResponse<>(false, "Product has been modified", null));
+    }
+
+    private static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : ((ObjectNode) patch).objectNode();
+        patch.fields().forEachRemaining(field -> {
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), mergePatch(result.get(field.getKey()), field.getValue()));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Deletes a product by its ID, together with its tags, images and reviews.
      * @param id the ID of the product
      * @return the response entity containing the API response with a success message
      */
@@ -216,13 +674,15 @@ public class ProductServiceImpl implements ProductService {
     public ResponseEntity<ApiResponse<Void>> deleteProduct(Long id) {
         log.info("Deleting product with ID: {}", id);
         try {
-            if (productRepository.existsById(id)) {
-                productRepository.deleteById(id);
+            BatchItemResultDTO result = productBatchService.delete(List.of(id)).getItems().get(0);
+            if (result.getStatus() == BatchItemResultDTO.Status.DELETED) {
                 log.info("Product deleted with ID: {}", id);
                 return ResponseEntity.ok(new ApiResponse<>(true, "Product deleted successfully", null));
-            } else {
+            } else if (result.getStatus() == BatchItemResultDTO.Status.NOT_FOUND) {
                 log.warn("Product not found with ID: {}", id);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
+            } else {
+                throw new IllegalStateException(result.getMessage());
             }
         } catch (Exception e) {
             log.error("Error deleting product: {}", e.getMessage());
@@ -231,38 +691,289 @@ public class ProductServiceImpl implements ProductService {
     }
 
     /**
-     * Searches for products by a keyword.
-     * @param keyword the keyword to search for
-     * @return the response entity containing the API response with the set of matching products
+     * Creates products in bulk. Each product is created independently: invalid products and products whose ID or
+     * SKU is already taken are reported without failing the rest of the batch.
+     * @param products the products to create
+     * @return the response entity containing the API response with the result of every product
+     */
+    @Override
+    public ResponseEntity<ApiResponse<BatchResultDTO>> createProducts(List<ProductDTO> products) {
+        log.info("Creating {} products in bulk", products == null ? 0 : products.size());
+        return applyBatch(products, productBatchService::create, "creating");
+    }
+
+    /**
+     * Updates products in bulk, matched by ID. Each product is updated independently: invalid and missing products
+     * and SKUs owned by another product are reported without failing the rest of the batch.
+     * @param products the products to update
+     * @return the response entity containing the API response with the result of every product
+     */
+    @Override
+    public ResponseEntity<ApiResponse<BatchResultDTO>> updateProducts(List<ProductDTO> products) {
+        log.info("Updating {} products in bulk", products == null ? 0 : products.size());
+        return applyBatch(products, productBatchService::update, "updating");
+    }
+
+    /**
+     * Deletes products in bulk, together with their tags, images and reviews. Missing products are reported
+     * without failing the rest of the batch.
+     * @param ids the IDs of the products to delete
+     * @return the response entity containing the API response with the result of every product
+     */
+    @Override
+    public ResponseEntity<ApiResponse<BatchResultDTO>> deleteProducts(List<Long> ids) {
+        log.info("Deleting {} products in bulk", ids == null ? 0 : ids.size());
+        return applyBatch(ids, productBatchService::delete, "deleting");
+    }
+
+    /**
+     * Reserves stock of a product in one atomic step: the reservation succeeds only if enough stock is left, so
+     * concurrent reservations never oversell.
+     * @param id the ID of the product
+     * @param quantity the quantity to reserve
+     * @return the response entity containing the API response with a success message
+     */
+    @Override
+    public ResponseEntity<ApiResponse<Void>> reserveStock(Long id, Long quantity) {
+        log.debug("Reserving {} of product with ID: {}", quantity, id);
+        try {
+            return switch (productStockService.reserve(id, quantity)) {
+                case RESERVED -> ResponseEntity.ok(new ApiResponse<>(true, "Stock reserved successfully", null));
+                case INSUFFICIENT_STOCK -> ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, "Insufficient stock", null));
+                default -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
+            };
+        } catch (Exception e) {
+            log.error("Error reserving stock: {}", e.getMessage());
+            throw new ProductServiceException("Error reserving stock", e);
+        }
+    }
+
+    /**
+     * Releases previously reserved stock of a product back to it.
+     * @param id the ID of the product
+     * @param quantity the quantity to release
+     * @return the response entity containing the API response with a success message
      */
     @Override
-    @Transactional
-    public ResponseEntity<ApiResponse<Set<ProductDTO>>> searchProducts(String keyword) {
-        log.info("Searching products with keyword: {}", keyword);
+    public ResponseEntity<ApiResponse<Void>> releaseStock(Long id, Long quantity) {
+        log.debug("Releasing {} of product with ID: {}", quantity, id);
+        try {
+            return switch (productStockService.release(id, quantity)) {
+                case RELEASED -> ResponseEntity.ok(new ApiResponse<>(true, "Stock released successfully", null));
+                default -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
+            };
+        } catch (Exception e) {
+            log.error("Error releasing stock: {}", e.getMessage());
+            throw new ProductServiceException("Error releasing stock", e);
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<BatchResultDTO>> applyBatch(List<T> items, Function<List<T>, BatchResultDTO> operation,
+                                                                       String verb) {
+        if (items == null || items.isEmpty() || items.size() > batchMaxItems) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false,
+                    "A batch must contain between 1 and " + batchMaxItems + " items", null));
+        }
         try {
-            SearchSession searchSession = Search.session(entityManager);
-            List<Product> products = searchSession.search(Product.class)
-                    .where(f -> f.match()
-                            .fields("title", "description")
-                            .matching(keyword))
-                    .fetchAllHits();
-
-            if (products.isEmpty()) {
-                log.warn("No products found matching keyword: {}", keyword);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Products Not Found", Collections.emptySet()));
+            BatchResultDTO result = operation.apply(items);
+            String message = result.getFailed() == 0
+                    ? "All " + result.getTotal() + " items succeeded"
+                    : result.getFailed() + " of " + result.getTotal() + " items failed";
+            return ResponseEntity.ok(new ApiResponse<>(result.getFailed() == 0, message, result));
+        } catch (Exception e) {
+            log.error("Error {} products in bulk: {}", verb, e.getMessage());
+            throw new ProductServiceException("Error " + verb + " products in bulk", e);
+        }
+    }
+
+    /**
+     * Searches for products by keyword and filters, one page of hits at a time, most relevant first unless another
+     * sort is requested. Title matches weigh more than description matches. Only the products of the requested page
+     * are loaded; the total hit count and facet counts come from the same index query.
+     * @param filter the keyword, filters, sort order and whether to compute facets
+     * @param page the zero-based page number
+     * @param size the requested page size, capped at the configured maximum
+     * @param fields the product properties to map, or null for all of them
+     * @return the response entity containing the API response with the page of matching products and their scores
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<ApiResponse<SearchPageDTO<ProductDTO>>> searchProducts(ProductSearchFilterDTO filter, Integer page, Integer size,
+                                                                             Set<String> fields) {
+        return search(Search.session(entityManager), "entities", filter, page, size, f -> f.entity(),
+                product -> productMapper.toDTO(product, fields));
+    }
+
+    /**
+     * Searches for products like {@link #searchProducts}, but projects each hit from the fields stored
+     * in the search index, so the database is not queried at all. The search runs in a session of its own that never
+     * joins a transaction, so no connection is acquired.
+     * @param filter the keyword, filters, sort order and whether to compute facets
+     * @param page the zero-based page number
+     * @param size the requested page size, capped at the configured maximum
+     * @return the response entity containing the API response with the page of matching product summaries and their scores
+     */
+    @Override
+    public ResponseEntity<ApiResponse<SearchPageDTO<ProductSummaryDTO>>> searchProductSummaries(ProductSearchFilterDTO filter, Integer page, Integer size) {
+        try (EntityManager indexOnlyEntityManager = entityManagerFactory.createEntityManager()) {
+            return search(Search.session(indexOnlyEntityManager), "summaries", filter, page, size,
+                    f -> f.composite().as(ProductSummaryDTO.class), Function.identity());
+        }
+    }
+
+    /**
+     * Suggests products whose title or tags contain words starting with each word of the typed text,
+     * highest rated first. Suggestions are projected from the search index, so the database is not queried.
+     * @param prefix the text typed so far
+     * @param limit the requested number of suggestions, capped at the configured maximum
+     * @return the response entity containing the API response with the suggested product summaries
+     */
+    @Override
+    public ResponseEntity<ApiResponse<List<ProductSummaryDTO>>> autocompleteProducts(String prefix, Integer limit) {
+        int maxSuggestions = limit == null || limit < 1 ? autocompleteDefaultLimit : Math.min(limit, autocompleteMaxLimit);
+        log.debug("Autocompleting products with prefix: {}", prefix);
+        try (EntityManager indexOnlyEntityManager = entityManagerFactory.createEntityManager()) {
+            SearchResult<ProductSummaryDTO> result = Search.session(indexOnlyEntityManager).search(Product.class)
+                    .select(f -> f.composite().as(ProductSummaryDTO.class))
+                    .where(f -> f.simpleQueryString()
+                            .fields(Product.TITLE_AUTOCOMPLETE, Product.TAGS_AUTOCOMPLETE)
+                            .matching(prefix)
+                            .defaultOperator(BooleanOperator.AND))
+                    .sort(f -> f.field("rating").desc().missing().last().then().score())
+                    .totalHitCountThreshold(maxSuggestions)
+                    .fetch(maxSuggestions);
+            productMetrics.recordSearch("autocomplete", false, result.took(), result.hits().size());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Suggestions retrieved successfully", result.hits()));
+        } catch (Exception e) {
+            log.error("Error autocompleting products: {}", e.getMessage());
+            throw new ProductServiceException("Error autocompleting products", e);
+        }
+    }
+
+    private <H, T> ResponseEntity<ApiResponse<SearchPageDTO<T>>> search(
+            SearchSession searchSession, String type, ProductSearchFilterDTO filter, Integer page, Integer size,
+            Function<SearchProjectionFactory<? extends EntityReference, Product>, ProjectionFinalStep<H>> hitProjection,
+            Function<H, T> hitMapper) {
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = resolvePageSize(size);
+        log.debug("Searching products with filter: {}, page: {}, page size: {}", filter, pageNumber, pageSize);
+        if ((long) pageNumber * pageSize + pageSize > searchMaxResultWindow) {
+            log.warn("Search page {} of size {} is beyond the result window of {}", pageNumber, pageSize, searchMaxResultWindow);
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false,
+                    "Page is beyond the search result window of " + searchMaxResultWindow + " hits", null));
+        }
+        try {
+            SearchQueryOptionsStep<?, SearchHitDTO<H>, ?, ?, ?> query = searchSession.search(Product.class)
+                    .select(f -> f.composite()
+                            .from(hitProjection.apply(f), f.score())
+                            .as(SearchHitDTO<H>::new))
+                    .where(f -> f.bool().with(b -> {
+                        if (filter.getKeyword() == null || filter.getKeyword().isBlank()) {
+                            b.must(f.matchAll());
+                        } else {
+                            b.must(f.match()
+                                    .field("title").boost(searchTitleBoost)
+                                    .field("description").boost(searchDescriptionBoost)
+                                    .matching(filter.getKeyword()));
+                        }
+                        if (filter.getCategory() != null && !filter.getCategory().isEmpty()) {
+                            b.filter(f.terms().field("category").matchingAny(filter.getCategory()));
+                        }
+                        if (filter.getTag() != null && !filter.getTag().isEmpty()) {
+                            b.filter(f.terms().field("tags").matchingAny(filter.getTag()));
+                        }
+                        if (filter.getAvailabilityStatus() != null && !filter.getAvailabilityStatus().isEmpty()) {
+                            b.filter(f.terms().field("availabilityStatus").matchingAny(filter.getAvailabilityStatus()));
+                        }
+                        if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+                            b.filter(f.range().field("price").within(Range.between(
+                                    filter.getMinPrice(), RangeBoundInclusion.INCLUDED, filter.getMaxPrice(), RangeBoundInclusion.INCLUDED)));
+                        }
+                        if (filter.getMinRating() != null) {
+                            b.filter(f.range().field("rating").atLeast(filter.getMinRating()));
+                        }
+                        if (Boolean.TRUE.equals(filter.getInStock())) {
+                            b.filter(f.range().field("stock").atLeast(1L));
+                        }
+                    }))
+                    .sort(f -> {
+                        String sort = filter.getSort() == null ? "relevance" : filter.getSort();
+                        if ("relevance".equals(sort)) {
+                            return f.score().then().indexOrder();
+                        }
+                        String field = sort.startsWith("-") ? sort.substring(1) : sort;
+                        SortOrder order = sort.startsWith("-") ? SortOrder.DESC : SortOrder.ASC;
+                        return f.field(field).order(order).then().score().then().indexOrder();
+                    });
+            if (filter.isFacets()) {
+                query = query
+                        .aggregation(CATEGORY_FACET, f -> f.terms().field("category", String.class).maxTermCount(searchMaxFacetTerms))
+                        .aggregation(TAG_FACET, f -> f.terms().field("tags", String.class).maxTermCount(searchMaxFacetTerms))
+                        .aggregation(AVAILABILITY_FACET, f -> f.terms().field("availabilityStatus", String.class).maxTermCount(searchMaxFacetTerms))
+                        .aggregation(PRICE_FACET, f -> f.range().field("price", Double.class).ranges(buckets(searchPriceBuckets)))
+                        .aggregation(RATING_FACET, f -> f.range().field("rating", Double.class).ranges(buckets(searchRatingBuckets)));
+            }
+            SearchResult<SearchHitDTO<H>> result = query.fetch(pageNumber * pageSize, pageSize);
+
+            long totalHits = result.total().hitCount();
+            productMetrics.recordSearch(type, filter.isFacets(), result.took(), totalHits);
+            if (totalHits == 0) {
+                log.debug("No products found matching filter: {}", filter);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Products Not Found", null));
             }
 
-            Set<ProductDTO> productDTOs = products.stream()
-                    .map(productMapper::toDTO)
-                    .collect(Collectors.toSet());
-            log.info("Found {} products matching keyword: {}", productDTOs.size(), keyword);
-            return ResponseEntity.ok(new ApiResponse<>(true, "Products found successfully", productDTOs));
+            Timer.Sample mapping = productMetrics.start();
+            List<SearchHitDTO<T>> hits = result.hits().stream()
+                    .map(hit -> new SearchHitDTO<>(hitMapper.apply(hit.getItem()), hit.getScore()))
+                    .collect(Collectors.toList());
+            productMetrics.recordMapper(mapping, "search_" + type);
+            int totalPages = (int) ((totalHits + pageSize - 1) / pageSize);
+            Map<String, Map<String, Long>> facets = null;
+            if (filter.isFacets()) {
+                facets = new LinkedHashMap<>();
+                facets.put(CATEGORY_FACET.name(), result.aggregation(CATEGORY_FACET));
+                facets.put(TAG_FACET.name(), result.aggregation(TAG_FACET));
+                facets.put(AVAILABILITY_FACET.name(), result.aggregation(AVAILABILITY_FACET));
+                facets.put(PRICE_FACET.name(), bucketCounts(result.aggregation(PRICE_FACET)));
+                facets.put(RATING_FACET.name(), bucketCounts(result.aggregation(RATING_FACET)));
+            }
+            log.debug("Found {} products matching filter, returning {} in {} ms", totalHits, hits.size(), result.took().toMillis());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Products found successfully",
+                    new SearchPageDTO<>(hits, pageNumber, hits.size(), totalHits, totalPages, facets)));
         } catch (Exception e) {
             log.error("Error searching products: {}", e.getMessage());
             throw new ProductServiceException("Error searching products", e);
         }
     }
 
+    /**
+     * Splits the number line at the given bounds: below the first, between each pair, and from the last upwards.
+     */
+    private static List<Range<Double>> buckets(double[] bounds) {
+        List<Range<Double>> ranges = new ArrayList<>(bounds.length + 1);
+        Double lower = null;
+        for (double bound : bounds) {
+            ranges.add(Range.canonical(lower, bound));
+            lower = bound;
+        }
+        ranges.add(Range.canonical(lower, null));
+        return ranges;
+    }
+
+    private static Map<String, Long> bucketCounts(Map<Range<Double>, Long> counts) {
+        Map<String, Long> labelled = new LinkedHashMap<>();
+        counts.forEach((range, count) -> {
+            String lower = range.lowerBoundValue().map(ProductServiceImpl::formatBound).orElse("0");
+            String label = range.upperBoundValue().map(upper -> lower + "-" + formatBound(upper)).orElse(lower + "+");
+            labelled.put(label, count);
+        });
+        return labelled;
+    }
+
+    private static String formatBound(Double bound) {
+        return BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString();
+    }
+
     /**
      * Finds a product by its ID or SKU.
      * @param id the ID of the product
@@ -270,23 +981,23 @@ public class ProductServiceImpl implements ProductService {
      * @return the response entity containing the API response with the product
      */
     public ResponseEntity<ApiResponse<ProductDTO>> findProductByIdOrSku(Long id, String sku) {
-        log.info("Finding product by ID: {} or SKU: {}", id, sku);
+        log.debug("Finding product by ID: {} or SKU: {}", id, sku);
         try {
             Optional<ProductDTO> product;
             if (id != null) {
-                product = productRepository.findById(id).map(productMapper::toDTO);
+                product = Optional.ofNullable(productCache.getById(id, this::loadProductById));
             } else if (sku != null) {
-                product = productRepository.findBySku(sku).map(productMapper::toDTO);
+                product = findProductBySku(sku);
             } else {
                 log.warn("No ID or SKU provided for product search");
                 return ResponseEntity.badRequest().body(new ApiResponse<>(false, "No ID or SKU provided", null));
             }
 
             return product.map(p -> {
-                log.info("Product found: {}", p);
+                log.debug("Product found with ID: {}", p.getId());
                 return ResponseEntity.ok(new ApiResponse<>(true, "Product found successfully", p));
             }).orElseGet(() -> {
-                log.warn("Product not found with ID: {} or SKU: {}", id, sku);
+                log.debug("Product not found with ID: {} or SKU: {}", id, sku);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found", null));
             });
         } catch (Exception e) {
@@ -294,4 +1005,47 @@ public class ProductServiceImpl implements ProductService {
             throw new ProductServiceException("Error finding product by ID or SKU", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the hit, miss and eviction statistics of the product cache.
+     * @return the response entity containing the API response with the cache statistics
+     */
+    @Override
+    public ResponseEntity<ApiResponse<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "Cache statistics retrieved successfully", productCache.stats()));
+    }
+
+    /**
+     * Compares the search index with the database.
+     * @return the response entity containing the API response with the indexed document and product row counts
+     */
+    @Override
+    public ResponseEntity<ApiResponse<IndexStatusDTO>> getSearchIndexStatus() {
+        try {
+            return ResponseEntity.ok(new ApiResponse<>(true, "Search index status retrieved successfully", productIndexService.status()));
+        } catch (Exception e) {
+            log.error("Error retrieving search index status: {}", e.getMessage());
+            throw new ProductServiceException("Error retrieving search index status", e);
+        }
+    }
+
+    /**
+     * Rebuilds the search index from the database.
+     * @param threadsToLoadObjects the number of loading threads, or null for the configured default
+     * @param batchSizeToLoadObjects the number of products loaded per query, or null for the configured default
+     * @return the response entity containing the API response with the reindex result
+     */
+    @Override
+    public ResponseEntity<ApiResponse<ReindexResultDTO>> rebuildSearchIndex(Integer threadsToLoadObjects, Integer batchSizeToLoadObjects) {
+        log.info("Rebuilding search index");
+        try {
+            return productIndexService.rebuild(threadsToLoadObjects, batchSizeToLoadObjects)
+                    .map(result -> ResponseEntity.ok(new ApiResponse<>(true, "Search index rebuilt successfully", result)))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(new ApiResponse<>(false, "Search index rebuild already running", null)));
+        } catch (Exception e) {
+            log.error("Error rebuilding search index: {}", e.getMessage());
+            throw new ProductServiceException("Error rebuilding search index", e);
+        }
+    }
+}
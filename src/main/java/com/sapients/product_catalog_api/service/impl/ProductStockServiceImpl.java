@@ -0,0 +1,209 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.cache.ProductCache;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.repository.ProductStock;
+import com.sapients.product_catalog_api.service.ProductIndexService;
+import com.sapients.product_catalog_api.service.ProductStockService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Reserves and releases stock without reading the product. By default every change is one conditional UPDATE,
+ * so the database serializes concurrent reservations and never lets stock go negative.
+ * <p>
+ * Products listed in {@code product.stock.write-behind.product-ids} (flash-sale items) are instead reserved
+ * against an in-memory counter with a compare-and-set, and the net change is written back every
+ * {@code product.stock.write-behind.flush-interval}. Each flush also re-reads the stored stock and applies
+ * changes made by other writers (e.g. a PUT) to the counter.
+ * <p>
+ * Bulk updates bypass automatic indexing, so changed products are reindexed every
+ * {@code product.stock.reindex-interval}; cached products are evicted as soon as their stock is written.
+ */
+@Slf4j
+@Service
+public class ProductStockServiceImpl implements ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductIndexService productIndexService;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> writeBehindProductIds;
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> staleInIndex = ConcurrentHashMap.newKeySet();
+
+    public ProductStockServiceImpl(ProductRepository productRepository, ProductCache productCache, ProductIndexService productIndexService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${product.stock.write-behind.product-ids:}") Set<Long> writeBehindProductIds) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.productIndexService = productIndexService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeBehindProductIds = Set.copyOf(writeBehindProductIds);
+    }
+
+    /**
+     * Takes a quantity from a product's stock if at least that much is left.
+     * @param id the ID of the product
+     * @param quantity the quantity to take, at least 1
+     * @return RESERVED, INSUFFICIENT_STOCK or NOT_FOUND
+     */
+    @Override
+    public Outcome reserve(Long id, long quantity) {
+        if (writeBehindProductIds.contains(id)) {
+            StockCounter counter = counter(id);
+            return counter == null ? Outcome.NOT_FOUND : counter.take(quantity) ? Outcome.RESERVED : Outcome.INSUFFICIENT_STOCK;
+        }
+        if (transactionTemplate.execute(status -> productRepository.decrementStock(id, quantity)) == 1) {
+            stockChanged(id);
+            return Outcome.RESERVED;
+        }
+        return productRepository.existsById(id) ? Outcome.INSUFFICIENT_STOCK : Outcome.NOT_FOUND;
+    }
+
+    /**
+     * Gives a previously reserved quantity back to a product's stock.
+     * @param id the ID of the product
+     * @param quantity the quantity to give back, at least 1
+     * @return RELEASED or NOT_FOUND
+     */
+    @Override
+    public Outcome release(Long id, long quantity) {
+        if (writeBehindProductIds.contains(id)) {
+            StockCounter counter = counter(id);
+            if (counter == null) {
+                return Outcome.NOT_FOUND;
+            }
+            counter.give(quantity);
+            return Outcome.RELEASED;
+        }
+        if (transactionTemplate.execute(status -> productRepository.adjustStock(id, quantity)) == 1) {
+            stockChanged(id);
+            return Outcome.RELEASED;
+        }
+        return Outcome.NOT_FOUND;
+    }
+
+    /**
+     * Writes the net change of every in-memory counter back in one transaction, then reconciles the counters with
+     * the stored stock. A failed write is kept pending for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${product.stock.write-behind.flush-interval:1s}")
+    @PreDestroy
+    public void flush() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(counters.keySet());
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : ids) {
+            long delta = counters.get(id).pending.getAndSet(0);
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+        }
+
+        Map<Long, Long> stored;
+        try {
+            stored = transactionTemplate.execute(status -> {
+                deltas.forEach(productRepository::adjustStock);
+                return productRepository.findStocksByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ProductStock::getId, ProductStock::getStock));
+            });
+        } catch (RuntimeException e) {
+            log.warn("Stock write-behind of {} products failed, retrying on next flush: {}", deltas.size(), e.getMessage());
+            deltas.forEach((id, delta) -> counters.get(id).pending.addAndGet(delta));
+            return;
+        }
+
+        for (Long id : ids) {
+            StockCounter counter = counters.get(id);
+            Long actual = stored.get(id);
+            if (actual == null) {
+                counters.remove(id);
+                continue;
+            }
+            long expected = counter.persisted + deltas.getOrDefault(id, 0L);
+            if (actual != expected) {
+                // Another writer changed the stored stock since the last flush.
+                counter.available.addAndGet(actual - expected);
+            }
+            counter.persisted = actual;
+            if (actual != expected || deltas.containsKey(id)) {
+                stockChanged(id);
+            }
+        }
+        if (!deltas.isEmpty()) {
+            log.debug("Wrote back stock of {} products", deltas.size());
+        }
+    }
+
+    /**
+     * Reindexes the products whose stock changed since the last run.
+     */
+    @Scheduled(fixedDelayString = "${product.stock.reindex-interval:5s}")
+    public void reindexChangedStock() {
+        if (staleInIndex.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(staleInIndex);
+        staleInIndex.removeAll(ids);
+        try {
+            productIndexService.reindex(ids);
+        } catch (RuntimeException e) {
+            log.warn("Reindexing stock of {} products failed, retrying on next run: {}", ids.size(), e.getMessage());
+            staleInIndex.addAll(ids);
+        }
+    }
+
+    private StockCounter counter(Long id) {
+        return counters.computeIfAbsent(id, key -> productRepository.findStockById(key).map(StockCounter::new).orElse(null));
+    }
+
+    private void stockChanged(Long id) {
+        productCache.evict(id);
+        staleInIndex.add(id);
+    }
+
+    private static final class StockCounter {
+        private final AtomicLong available;
+        private final AtomicLong pending = new AtomicLong();
+        private volatile long persisted;
+
+        private StockCounter(long stock) {
+            this.available = new AtomicLong(stock);
+            this.persisted = stock;
+        }
+
+        private boolean take(long quantity) {
+            long current;
+            do {
+                current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!available.compareAndSet(current, current - quantity));
+            pending.addAndGet(-quantity);
+            return true;
+        }
+
+        private void give(long quantity) {
+            available.addAndGet(quantity);
+            pending.addAndGet(quantity);
+        }
+    }
+}
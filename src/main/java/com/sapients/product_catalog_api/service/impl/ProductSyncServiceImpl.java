@@ -0,0 +1,195 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.dto.IngestResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductResponseDTO;
+import com.sapients.product_catalog_api.dto.SyncResultDTO;
+import com.sapients.product_catalog_api.exception.ProductServiceException;
+import com.sapients.product_catalog_api.metrics.ProductMetrics;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.repository.ProductSyncState;
+import com.sapients.product_catalog_api.service.ProductIngestService;
+import com.sapients.product_catalog_api.service.ProductSyncService;
+import com.sapients.product_catalog_api.service.SyncProgress;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.Timer;
+import kong.unirest.HttpResponse;
+import kong.unirest.Unirest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental sync from the paginated external product API.
+ * The first page tells how many products exist; the remaining pages are fetched concurrently with bounded
+ * parallelism, and every page is written as soon as it arrives, so at most {@code parallelism} pages are in memory.
+ * Only products whose {@code meta.updatedAt} or content hash differ from the stored row are written.
+ */
+@Slf4j
+@Service
+public class ProductSyncServiceImpl implements ProductSyncService {
+
+    private final String externalApiUrl;
+    private final int pageSize;
+    private final ProductRepository productRepository;
+    private final ProductIngestService productIngestService;
+    private final ProductContentHasher productContentHasher;
+    private final Executor productSyncExecutor;
+    private final ProductMetrics productMetrics;
+    private final Retry pageRetry;
+
+    public ProductSyncServiceImpl(@Value("${external.api.url}") String externalApiUrl,
+                                  @Value("${product.sync.page-size:100}") int pageSize,
+                                  ProductRepository productRepository,
+                                  ProductIngestService productIngestService,
+                                  ProductContentHasher productContentHasher,
+                                  @Qualifier("productSyncExecutor") Executor productSyncExecutor,
+                                  ProductMetrics productMetrics,
+                                  @Value("${product.sync.max-attempts:3}") int maxAttempts) {
+        this.externalApiUrl = externalApiUrl;
+        this.pageSize = pageSize;
+        this.productRepository = productRepository;
+        this.productIngestService = productIngestService;
+        this.productContentHasher = productContentHasher;
+        this.productSyncExecutor = productSyncExecutor;
+        this.productMetrics = productMetrics;
+        this.pageRetry = Retry.of("loadProducts", RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .waitDuration(Duration.ofMillis(500))
+                .build());
+    }
+
+    /**
+     * Walks every page of the external API and writes the products that changed.
+     * Cancellation and failure of another page are checked before every page, so the first failed page stops the
+     * sync after the pages already in flight; pages already written stay written.
+     * @param progress receives the live counters and carries cancellation requests
+     * @return the number of pages and products fetched, written and skipped
+     */
+    @Override
+    public SyncResultDTO sync(SyncProgress progress) {
+        long start = System.nanoTime();
+
+        ProductResponseDTO firstPage = fetchPage(0);
+        long total = firstPage.getTotal() == null ? 0 : firstPage.getTotal();
+        progress.setTotal(total);
+        syncPage(firstPage, progress);
+
+        // Pages that have not started yet see the flag and return without fetching. They are not cancelled, so the
+        // join below still waits for the pages in flight and no write outlives the sync.
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<Void>> pages = new ArrayList<>();
+        for (long skip = pageSize; skip < total; skip += pageSize) {
+            long pageSkip = skip;
+            pages.add(CompletableFuture.runAsync(() -> {
+                if (!progress.isCancelled() && !failed.get()) {
+                    syncPage(fetchPage(pageSkip), progress);
+                }
+            }, productSyncExecutor).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    failed.set(true);
+                }
+            }));
+        }
+        try {
+            CompletableFuture.allOf(pages.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof ProductServiceException cause ? cause
+                    : new ProductServiceException("Error syncing products", e.getCause());
+        }
+
+        SyncResultDTO result = new SyncResultDTO(total, progress.getPagesFetched(), progress.getProductsFetched(),
+                progress.getProductsWritten(), progress.getProductsFetched() - progress.getProductsWritten(),
+                (System.nanoTime() - start) / 1_000_000);
+        log.info("Synced {} pages: {} products fetched, {} written, {} unchanged in {} ms", result.getPagesFetched(),
+                result.getProductsFetched(), result.getProductsWritten(), result.getProductsUnchanged(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Fetches one page of products from the external API, retrying failed pages individually.
+     * @param skip the number of products to skip
+     * @return the page
+     */
+    private ProductResponseDTO fetchPage(long skip) {
+        return pageRetry.executeSupplier(() -> fetchPageOnce(skip));
+    }
+
+    private ProductResponseDTO fetchPageOnce(long skip) {
+        Timer.Sample sample = productMetrics.start();
+        HttpResponse<ProductResponseDTO> response;
+        try {
+            response = Unirest.get(externalApiUrl)
+                    .queryString("limit", pageSize)
+                    .queryString("skip", skip)
+                    .asObject(ProductResponseDTO.class);
+        } catch (RuntimeException e) {
+            productMetrics.recordExternalFetch(sample, null);
+            throw e;
+        }
+        productMetrics.recordExternalFetch(sample, response.getStatus());
+        if (response.getStatus() != 200 || response.getBody() == null) {
+            log.error("Failed to fetch products at skip {}: {}", skip, response.getStatusText());
+            throw new ProductServiceException("Failed to fetch products: " + response.getStatusText());
+        }
+        log.debug("Fetched {} products at skip {}", response.getBody().getProducts().size(), skip);
+        return response.getBody();
+    }
+
+    /**
+     * Writes the products of a page that are new or changed.
+     * @param page the page
+     * @param progress the progress of the running sync
+     */
+    private void syncPage(ProductResponseDTO page, SyncProgress progress) {
+        List<ProductDTO> products = page.getProducts() == null ? List.of() : page.getProducts();
+        List<ProductDTO> changed = changedProducts(products);
+        if (!changed.isEmpty() && !progress.isCancelled()) {
+            IngestResultDTO result = productIngestService.ingest(changed);
+            progress.productsWritten(result.getRowsWritten());
+        }
+        progress.pageFetched(products.size());
+    }
+
+    /**
+     * Compares a page against the stored rows. The timestamp is checked first so that only products with an
+     * unchanged {@code updatedAt} need to be hashed.
+     * @param products the products of a page
+     * @return the products that are new or differ from the stored row
+     */
+    private List<ProductDTO> changedProducts(List<ProductDTO> products) {
+        if (products.isEmpty()) {
+            return products;
+        }
+        Map<Long, ProductSyncState> stored = productRepository
+                .findSyncStatesByIdIn(products.stream().map(ProductDTO::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(ProductSyncState::getId, Function.identity()));
+        return products.stream()
+                .filter(product -> {
+                    ProductSyncState state = stored.get(product.getId());
+                    if (state == null) {
+                        return true;
+                    }
+                    LocalDateTime updatedAt = product.getMeta() == null ? null : product.getMeta().getUpdatedAt();
+                    return !Objects.equals(updatedAt, state.getUpdatedAt())
+                            || !productContentHasher.hash(product).equals(state.getContentHash());
+                })
+                .toList();
+    }
+}
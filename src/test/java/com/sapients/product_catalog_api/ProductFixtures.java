@@ -0,0 +1,81 @@
+package com.sapients.product_catalog_api;
+
+import com.sapients.product_catalog_api.dto.DimensionsDTO;
+import com.sapients.product_catalog_api.dto.MetaDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.mapper.impl.ProductMapperImpl;
+import com.sapients.product_catalog_api.model.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Complete, valid products shared by the tests and benchmarks. Each caller names its products, which gives them their
+ * own title and SKU prefix; anything else a test depends on is set on the returned object.
+ */
+public final class ProductFixtures {
+    /**
+     * The creation, update and review date of every fixture product.
+     */
+    public static final LocalDateTime TIMESTAMP = LocalDateTime.of(2024, 5, 23, 8, 56, 21, 618_000_000);
+
+    private static final ProductMapperImpl MAPPER = new ProductMapperImpl();
+
+    private ProductFixtures() {
+    }
+
+    /**
+     * @param id the product ID
+     * @param name the name the title and SKU are derived from, such as {@code "Sync"} for {@code SYNC-<id>}
+     * @param reviews how many reviews to attach; they are commented {@code "Review 1"} onwards
+     * @return a product as the upstream catalog API would send it
+     */
+    public static ProductDTO productDTO(long id, String name, int reviews) {
+        List<ReviewDTO> reviewList = new ArrayList<>(reviews);
+        for (int i = 1; i <= reviews; i++) {
+            reviewList.add(ReviewDTO.builder()
+                    .rating((double) ((i - 1) % 5 + 1))
+                    .comment("Review " + i)
+                    .date(TIMESTAMP)
+                    .reviewerName("Reviewer " + i)
+                    .reviewerEmail("reviewer" + i + "@example.com")
+                    .build());
+        }
+        return ProductDTO.builder()
+                .id(id)
+                .title(name + " product " + id)
+                .description("Product " + id + " of the " + name.toLowerCase(Locale.ROOT) + " fixtures")
+                .category("testing")
+                .price(10.0)
+                .discountPercentage(5.0)
+                .rating(4.0)
+                .stock(5L)
+                .tags(List.of("alpha", "beta"))
+                .sku(name.toUpperCase(Locale.ROOT) + "-" + id)
+                .weight(1.0)
+                .dimensions(DimensionsDTO.builder().width(1.0).height(2.0).depth(3.0).build())
+                .warrantyInformation("1 year warranty")
+                .shippingInformation("Ships in 1 week")
+                .availabilityStatus("In Stock")
+                .reviews(reviewList)
+                .returnPolicy("30 days return policy")
+                .minimumOrderQuantity(1L)
+                .meta(MetaDTO.builder().createdAt(TIMESTAMP).updatedAt(TIMESTAMP).barcode("123").qrCode("qr").build())
+                .images(List.of("https://example.com/" + id + ".png"))
+                .thumbnail("https://example.com/" + id + "-thumb.png")
+                .build();
+    }
+
+    /**
+     * @param id the product ID
+     * @param name the name the title and SKU are derived from
+     * @param reviews how many reviews to attach
+     * @return the entity {@link #productDTO} maps to, with its review stats filled in
+     */
+    public static Product product(long id, String name, int reviews) {
+        return MAPPER.toModel(productDTO(id, name, reviews));
+    }
+}
@@ -0,0 +1,121 @@
+package com.sapients.product_catalog_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.config.ProductRepresentation;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts that a product is served as JSON, CBOR and Smile, each with its own ETag and varying by {@code Accept}, that
+ * a 304 is only given for the ETag of the requested format, and that {@code fields} trims the product.
+ */
+@SpringBootTest(properties = {
+        // MockMvc makes this a context of its own, so it gets its own database and index directory.
+        "spring.datasource.url=jdbc:h2:mem:controller-tests",
+        "product.search.index-root=./target/controller-tests-index"
+})
+@AutoConfigureMockMvc
+class ProductControllerTests {
+
+    private static final long ID = 700_001L;
+    private static final String PATH = "/api/products/" + ID;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        productService.createProduct(ProductFixtures.productDTO(ID, "Controller", 1));
+        version = productRepository.findVersionById(ID).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productService.deleteProduct(ID);
+    }
+
+    @Test
+    void jsonIsTheDefaultFormat() throws Exception {
+        String eTag = "\"" + version + "\"";
+        mockMvc.perform(get(PATH))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.data.title").value("Controller product " + ID));
+
+        mockMvc.perform(get(PATH).accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        mockMvc.perform(get(PATH).accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    void cborHasItsOwnETag() throws Exception {
+        assertFormat(MediaType.APPLICATION_CBOR, new CBORMapper(), "\"" + version + "-cbor\"");
+    }
+
+    @Test
+    void smileHasItsOwnETag() throws Exception {
+        assertFormat(ProductRepresentation.SMILE, new SmileMapper(), "\"" + version + "-smile\"");
+    }
+
+    @Test
+    void fieldsTrimTheProduct() throws Exception {
+        mockMvc.perform(get(PATH).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(ID))
+                .andExpect(jsonPath("$.data.title").value("Controller product " + ID))
+                .andExpect(jsonPath("$.data.price").doesNotExist())
+                .andExpect(jsonPath("$.data.tags").doesNotExist());
+    }
+
+    private void assertFormat(MediaType mediaType, ObjectMapper mapper, String eTag) throws Exception {
+        MvcResult result = mockMvc.perform(get(PATH).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+        JsonNode product = mapper.readTree(result.getResponse().getContentAsByteArray()).get("data");
+        assertEquals(ID, product.get("id").asLong());
+        assertEquals("Controller product " + ID, product.get("title").asText());
+
+        mockMvc.perform(get(PATH).accept(mediaType).header(HttpHeaders.IF_NONE_MATCH, "\"" + version + "\""))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(PATH).accept(mediaType).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+}
@@ -0,0 +1,227 @@
+package com.sapients.product_catalog_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductResponseDTO;
+import com.sapients.product_catalog_api.service.ProductIngestService;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mixed read/load traffic against a running server, reporting throughput and latency percentiles.
+ * Excluded from the default build; run it once per threading mode and compare the JSON reports in target/load-test:
+ * <pre>
+ * mvn test -Pload-test
+ * mvn test -Pload-test -Dspring.profiles.active=dev,virtual   (Java 21+)
+ * </pre>
+ * Tunables: {@code load.clients}, {@code load.duration-seconds}, {@code load.catalog-size}.
+ * The report includes the peak number of busy pool connections, which is what the pool size should cover.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ProductLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 64);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final int CATALOG_SIZE = Integer.getInteger("load.catalog-size", 2000);
+    private static final long FIRST_ID = 1_000_000L;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static HttpServer upstream;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductIngestService productIngestService;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void upstreamApi(DynamicPropertyRegistry registry) throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        upstream.createContext("/products", exchange -> {
+            Map<String, Long> query = new LinkedHashMap<>();
+            Arrays.stream(exchange.getRequestURI().getQuery().split("&"))
+                    .map(pair -> pair.split("="))
+                    .forEach(pair -> query.put(pair[0], Long.parseLong(pair[1])));
+            ProductResponseDTO page = new ProductResponseDTO();
+            long skip = query.get("skip");
+            page.setProducts(LongStream.range(skip, Math.min(CATALOG_SIZE, skip + query.get("limit")))
+                    .mapToObj(i -> product(FIRST_ID + i)).toList());
+            page.setTotal((long) CATALOG_SIZE);
+            page.setSkip(skip);
+            page.setLimit((long) page.getProducts().size());
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(page);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+        registry.add("external.api.url", () -> "http://127.0.0.1:" + upstream.getAddress().getPort() + "/products");
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.stop(0);
+    }
+
+    @Test
+    void mixedReadAndLoadTraffic() throws Exception {
+        boolean virtual = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        Assumptions.assumeTrue(!virtual || Runtime.version().feature() >= 21, "Virtual threads need Java 21+");
+        String mode = virtual ? "virtual" : "platform";
+
+        productIngestService.ingest(LongStream.range(FIRST_ID, FIRST_ID + CATALOG_SIZE).mapToObj(ProductLoadTest::product).toList());
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        String base = "http://127.0.0.1:" + port + "/api/products";
+        long deadline = System.nanoTime() + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong loads = new AtomicLong();
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicInteger peakActiveConnections = new AtomicInteger();
+        AtomicInteger peakPendingThreads = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS + 2);
+        List<Future<long[]>> workers = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            workers.add(clients.submit(() -> {
+                long[] latencies = new long[1 << 16];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long id = FIRST_ID + random.nextInt(CATALOG_SIZE);
+                    int op = random.nextInt(100);
+                    URI uri = URI.create(op < 70 ? base + "/" + id
+                            : op < 85 ? base + "/find?sku=LOAD-" + id
+                            : base + "?size=20&after=" + (id - 1));
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+        Future<?> loader = clients.submit(() -> {
+            while (System.nanoTime() < deadline) {
+                client.send(HttpRequest.newBuilder(URI.create(base + "/load")).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                loads.incrementAndGet();
+                Thread.sleep(1000);
+            }
+            return null;
+        });
+
+        Future<?> poolSampler = clients.submit(() -> {
+            while (System.nanoTime() < deadline) {
+                peakActiveConnections.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                peakPendingThreads.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                Thread.sleep(10);
+            }
+            return null;
+        });
+
+        long[] all = new long[0];
+        for (Future<long[]> worker : workers) {
+            long[] latencies = worker.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        loader.get();
+        poolSampler.get();
+        clients.shutdown();
+        Arrays.sort(all);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("mode", mode);
+        report.put("clients", CLIENTS);
+        report.put("durationSeconds", DURATION_SECONDS);
+        report.put("requests", all.length);
+        report.put("errors", errors.get());
+        report.put("loadRequests", loads.get());
+        report.put("throughputPerSecond", all.length / (double) DURATION_SECONDS);
+        report.put("p50Millis", percentile(all, 0.50));
+        report.put("p99Millis", percentile(all, 0.99));
+        report.put("poolSize", pool.getTotalConnections());
+        report.put("peakActiveConnections", peakActiveConnections.get());
+        report.put("peakThreadsAwaitingConnection", peakPendingThreads.get());
+        Path reportFile = Path.of("target", "load-test", mode + ".json");
+        Files.createDirectories(reportFile.getParent());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        log.info("Load test report: {}", OBJECT_MAPPER.writeValueAsString(report));
+
+        assertTrue(all.length > 0, "No requests completed");
+        assertTrue(errors.get() <= all.length / 100, "Error rate above 1%: " + errors.get() + " of " + all.length);
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static ProductDTO product(long id) {
+        ProductDTO product = ProductFixtures.productDTO(id, "Load", 1);
+        product.setCategory("load");
+        product.setStock(100L);
+        return product;
+    }
+}
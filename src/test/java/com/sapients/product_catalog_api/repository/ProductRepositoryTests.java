@@ -0,0 +1,339 @@
+package com.sapients.product_catalog_api.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.cache.ProductCache;
+import com.sapients.product_catalog_api.dto.ApiResponse;
+import com.sapients.product_catalog_api.dto.CursorPageDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductSearchFilterDTO;
+import com.sapients.product_catalog_api.dto.ProductSummaryDTO;
+import com.sapients.product_catalog_api.dto.ReviewDTO;
+import com.sapients.product_catalog_api.dto.SearchPageDTO;
+import com.sapients.product_catalog_api.mapper.ProductMapper;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.model.ReviewStats;
+import com.sapients.product_catalog_api.service.ProductIngestService;
+import com.sapients.product_catalog_api.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Asserts that mapping products touches their tags and images in a fixed number of statements and leaves reviews out,
+ * that summary pages and searches touch none, that reviews are paged and aggregated without loading them all,
+ * that patches write only what changed and report concurrent writes as conflicts, and that conditional requests are
+ * answered from the version alone, and that ingests evict the cached products they update.
+ */
+@SpringBootTest(properties = {
+        // Spying on the validator makes this a context of its own, so it gets its own database and index directory.
+        "spring.datasource.url=jdbc:h2:mem:repository-tests",
+        "product.search.index-root=./target/repository-tests-index"
+})
+class ProductRepositoryTests {
+
+    private static final long FIRST_ID = 900_001L;
+    private static final int PRODUCT_COUNT = 20;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductIngestService productIngestService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private Validator validator;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> productRepository.saveAll(
+                LongStream.range(FIRST_ID, FIRST_ID + PRODUCT_COUNT).mapToObj(id -> ProductFixtures.product(id, "Batchfetch", 3)).toList()));
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        transactionTemplate.executeWithoutResult(status -> productRepository.deleteAllById(
+                LongStream.range(FIRST_ID, FIRST_ID + PRODUCT_COUNT).boxed().toList()));
+    }
+
+    @Test
+    void keysetPageLoadsCollectionsInBatches() {
+        int mapped = transactionTemplate.execute(status -> productRepository
+                .findByIdGreaterThanOrderByIdAsc(FIRST_ID - 1, Limit.of(PRODUCT_COUNT))
+                .stream()
+                .map(productMapper::toDTO)
+                .toList()
+                .size());
+
+        assertEquals(PRODUCT_COUNT, mapped);
+        assertStatementsAtMost(4);
+    }
+
+    @Test
+    void findByIdMapsWithoutLoadingReviews() {
+        ProductDTO product = transactionTemplate.execute(status -> productMapper.toDTO(productRepository.findById(FIRST_ID).orElseThrow()));
+
+        assertStatementsAtMost(3);
+        assertNull(product.getReviews());
+        assertEquals(3L, product.getReviewStats().getCount());
+        assertEquals(0, statistics.getCollectionStatistics(Product.class.getName() + ".reviews").getFetchCount());
+    }
+
+    @Test
+    void findBySkuMapsWithoutLoadingReviews() {
+        transactionTemplate.executeWithoutResult(status -> productMapper.toDTO(productRepository.findBySku("BATCHFETCH-" + FIRST_ID).orElseThrow()));
+
+        assertStatementsAtMost(3);
+        assertEquals(0, statistics.getCollectionStatistics(Product.class.getName() + ".reviews").getFetchCount());
+    }
+
+    @Test
+    void searchHitsLoadCollectionsInBatches() {
+        int mapped = transactionTemplate.execute(status -> Search.session(entityManager)
+                .search(Product.class)
+                .where(f -> f.match().field("title").matching("batchfetch"))
+                .fetchAllHits()
+                .stream()
+                .map(productMapper::toDTO)
+                .toList()
+                .size());
+
+        assertEquals(PRODUCT_COUNT, mapped);
+        assertStatementsAtMost(4);
+    }
+
+    @Test
+    void summaryPageSelectsOnlyTheProductRows() {
+        List<ProductSummaryDTO> summaries = productService.getProductSummaries(FIRST_ID - 1, PRODUCT_COUNT).getBody().getData().getItems();
+
+        assertEquals(PRODUCT_COUNT, summaries.size());
+        assertEquals(FIRST_ID, summaries.get(0).getId());
+        assertEquals("https://example.com/" + FIRST_ID + "-thumb.png", summaries.get(0).getThumbnail());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void keysetPagesEndWithoutACursor() {
+        long last = FIRST_ID + PRODUCT_COUNT - 1;
+        // Products are mapped in the request's open session in the app; here a transaction stands in for it.
+        CursorPageDTO<ProductDTO> lastPage = transactionTemplate.execute(status -> productService.getAllProducts(last - 2, 2, null)).getBody().getData();
+        assertEquals(List.of(last - 1, last), lastPage.getItems().stream().map(ProductDTO::getId).toList());
+        assertNull(lastPage.getNextCursor());
+
+        ApiResponse<CursorPageDTO<ProductDTO>> pastTheEnd = transactionTemplate.execute(status -> productService.getAllProducts(last, 2, null)).getBody();
+        assertTrue(pastTheEnd.getSuccess());
+        assertEquals(List.of(), pastTheEnd.getData().getItems());
+        assertNull(pastTheEnd.getData().getNextCursor());
+
+        CursorPageDTO<ProductSummaryDTO> lastSummaries = productService.getProductSummaries(last - 2, 2).getBody().getData();
+        assertEquals(2, lastSummaries.getItems().size());
+        assertNull(lastSummaries.getNextCursor());
+        assertEquals(List.of(), productService.getProductSummaries(last, 2).getBody().getData().getItems());
+    }
+
+    @Test
+    void summarySearchIsServedFromTheIndex() {
+        SearchPageDTO<ProductSummaryDTO> page = productService.searchProductSummaries(
+                ProductSearchFilterDTO.builder().keyword("batchfetch").build(), 0, PRODUCT_COUNT).getBody().getData();
+
+        assertEquals(PRODUCT_COUNT, page.getHits().size());
+        ProductSummaryDTO summary = page.getHits().get(0).getItem();
+        assertEquals("https://example.com/" + summary.getId() + "-thumb.png", summary.getThumbnail());
+        assertEquals("testing", summary.getCategory());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getConnectCount());
+    }
+
+    @Test
+    void pricePatchUpdatesOnlyTheProductRow() {
+        assertEquals(HttpStatus.OK, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().put("price", 12.5).put("stock", 3), null).getStatusCode());
+
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getCollectionUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(12.5, productRepository.findById(FIRST_ID).orElseThrow().getPrice());
+    }
+
+    @Test
+    void tagPatchUpdatesOnlyTheChangedTag() {
+        assertEquals(HttpStatus.OK, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().set("tags", objectMapper.valueToTree(List.of("alpha", "gamma"))), null).getStatusCode());
+
+        // The product row itself is only touched to increment its version.
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getCollectionUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        List<String> tags = transactionTemplate.execute(status -> new ArrayList<>(productRepository.findById(FIRST_ID).orElseThrow().getTags()));
+        assertEquals(List.of("alpha", "gamma"), tags);
+    }
+
+    @Test
+    void concurrentUpdateDuringPatchIsAConflict() {
+        TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Validation runs after the product is loaded and before it is flushed; commit another write in between.
+        doAnswer(invocation -> {
+            concurrentTransaction.executeWithoutResult(status -> productRepository.adjustStock(FIRST_ID, 1));
+            return invocation.callRealMethod();
+        }).when(validator).validate(any(ProductDTO.class));
+
+        assertEquals(HttpStatus.CONFLICT, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().put("price", 13.0), null).getStatusCode());
+        assertEquals(10.0, productRepository.findById(FIRST_ID).orElseThrow().getPrice());
+    }
+
+    @Test
+    void creatingAnExistingProductIsAConflict() {
+        ProductDTO existing = transactionTemplate.execute(status -> productMapper.toDTO(productRepository.findById(FIRST_ID).orElseThrow()));
+        existing.setTitle("Duplicate");
+
+        assertEquals(HttpStatus.CONFLICT, productService.createProduct(existing).getStatusCode());
+        assertEquals("Batchfetch product " + FIRST_ID, productRepository.findById(FIRST_ID).orElseThrow().getTitle());
+    }
+
+    @Test
+    void reviewPatchAdjustsReviewStats() {
+        List<ReviewDTO> reviews = List.of(review(5.0), review(4.0));
+        assertEquals(HttpStatus.OK, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().set("reviews", objectMapper.valueToTree(reviews)), null).getStatusCode());
+
+        ReviewStats stats = productRepository.findById(FIRST_ID).orElseThrow().getReviewStats();
+        assertEquals(2, stats.getCount());
+        assertEquals(4.5, stats.getAverageRating());
+        assertEquals(0, stats.getOneStar());
+        assertEquals(1, stats.getFourStars());
+        assertEquals(1, stats.getFiveStars());
+    }
+
+    @Test
+    void reviewPageReadsOnlyTheReviews() {
+        CursorPageDTO<ReviewDTO> first = productService.getProductReviews(FIRST_ID, null, 2).getBody().getData();
+
+        assertEquals(List.of("Review 1", "Review 2"), first.getItems().stream().map(ReviewDTO::getComment).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityLoadCount());
+
+        CursorPageDTO<ReviewDTO> second = productService.getProductReviews(FIRST_ID, first.getNextCursor(), 2).getBody().getData();
+        assertEquals(List.of("Review 3"), second.getItems().stream().map(ReviewDTO::getComment).toList());
+        assertNull(second.getNextCursor());
+        assertEquals(HttpStatus.NOT_FOUND, productService.getProductReviews(FIRST_ID + PRODUCT_COUNT, null, 2).getStatusCode());
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredFromTheVersion() {
+        productCache.evict(FIRST_ID);
+        String eTag = productService.getProductById(FIRST_ID, null, MediaType.APPLICATION_JSON).getHeaders().getETag();
+
+        statistics.clear();
+        assertEquals(HttpStatus.NOT_MODIFIED, productService.getProductById(FIRST_ID, eTag, MediaType.APPLICATION_JSON).getStatusCode());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        productCache.evict(FIRST_ID);
+        assertEquals(HttpStatus.NOT_MODIFIED, productService.getProductById(FIRST_ID, eTag, MediaType.APPLICATION_JSON).getStatusCode());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        productCache.evict(FIRST_ID);
+        // If-Match accepts the ETag of any format of the current version.
+        String eTag = productService.getProductById(FIRST_ID, null, MediaType.APPLICATION_CBOR).getHeaders().getETag();
+
+        assertEquals(HttpStatus.OK, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().put("price", 11.0), eTag).getStatusCode());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().put("price", 12.0), eTag).getStatusCode());
+        assertEquals(11.0, productRepository.findById(FIRST_ID).orElseThrow().getPrice());
+    }
+
+    @Test
+    void patchCannotClearReviews() {
+        assertEquals(HttpStatus.BAD_REQUEST, productService.patchProduct(FIRST_ID,
+                objectMapper.createObjectNode().putNull("reviews"), null).getStatusCode());
+        assertEquals(3, productRepository.findById(FIRST_ID).orElseThrow().getReviewStats().getCount());
+    }
+
+    @Test
+    void ingestEvictsUpdatedProducts() {
+        productService.getProductById(FIRST_ID, null, MediaType.APPLICATION_JSON);
+        ProductDTO reloaded = ProductFixtures.productDTO(FIRST_ID, "Batchfetch", 3);
+        reloaded.setTitle("Reloaded");
+
+        productIngestService.ingest(List.of(reloaded));
+
+        assertNull(productCache.peek(FIRST_ID));
+        assertEquals("Reloaded", productService.getProductById(FIRST_ID, null, MediaType.APPLICATION_JSON).getBody().getData().getTitle());
+    }
+
+    private void assertStatementsAtMost(long expected) {
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements > 0 && statements <= expected, "Expected at most " + expected + " statements but got " + statements);
+    }
+
+    private ReviewDTO review(double rating) {
+        return ReviewDTO.builder()
+                .rating(rating)
+                .comment("Patched review")
+                .date(LocalDateTime.now())
+                .reviewerName("Patcher")
+                .reviewerEmail("patcher@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.cache.ProductSkuIndex;
+import com.sapients.product_catalog_api.dto.BatchItemResultDTO;
+import com.sapients.product_catalog_api.dto.BatchItemResultDTO.Status;
+import com.sapients.product_catalog_api.dto.BatchResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.mapper.ProductMapper;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.service.ProductBatchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Asserts the per-item results of batch creates, updates and deletes, that a failing chunk is retried item by item
+ * without leaving the rolled-back items in the SKU index, and that deletes purge the search index.
+ */
+@SpringBootTest(properties = {
+        // Spying on the mapper makes this a context of its own, so it gets its own database and index directory.
+        "spring.datasource.url=jdbc:h2:mem:batch-tests",
+        "product.search.index-root=./target/batch-tests-index",
+        "product.batch.chunk-size=2"
+})
+class ProductBatchServiceImplTests {
+
+    private static final long FIRST_ID = 800_001L;
+    private static final int PRODUCT_COUNT = 5;
+
+    @Autowired
+    private ProductBatchService productBatchService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSkuIndex productSkuIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoSpyBean
+    private ProductMapper productMapper;
+
+    @AfterEach
+    void tearDown() {
+        productBatchService.delete(LongStream.range(FIRST_ID, FIRST_ID + PRODUCT_COUNT).boxed().toList());
+    }
+
+    @Test
+    void createReportsEveryItem() {
+        ProductDTO untitled = product(FIRST_ID + 2);
+        untitled.setTitle(null);
+        ProductDTO takenSku = product(FIRST_ID + 3);
+        takenSku.setSku(sku(FIRST_ID));
+
+        BatchResultDTO result = productBatchService.create(Arrays.asList(
+                product(FIRST_ID), product(FIRST_ID + 1), product(FIRST_ID), untitled, null, takenSku));
+
+        assertStatuses(result, Status.CREATED, Status.CREATED, Status.CONFLICT, Status.INVALID, Status.INVALID, Status.CONFLICT);
+        assertEquals(2, result.getSucceeded());
+        assertEquals(4, result.getFailed());
+        assertEquals("Duplicate ID in batch", result.getItems().get(2).getMessage());
+        assertEquals("SKU already in use", result.getItems().get(5).getMessage());
+        assertEquals(Optional.of(FIRST_ID + 1), productSkuIndex.resolve(sku(FIRST_ID + 1)));
+        assertStatuses(productBatchService.create(List.of(product(FIRST_ID))), Status.CONFLICT);
+    }
+
+    @Test
+    void updateReportsEveryItem() {
+        productBatchService.create(List.of(product(FIRST_ID), product(FIRST_ID + 1)));
+        ProductDTO renamed = product(FIRST_ID);
+        renamed.setTitle("Renamed");
+        renamed.setSku("RENAMED-" + FIRST_ID);
+        ProductDTO takenSku = product(FIRST_ID + 1);
+        takenSku.setSku(renamed.getSku());
+
+        BatchResultDTO result = productBatchService.update(List.of(renamed, takenSku, product(FIRST_ID + 2)));
+
+        assertStatuses(result, Status.UPDATED, Status.CONFLICT, Status.NOT_FOUND);
+        assertEquals("Renamed", productRepository.findById(FIRST_ID).orElseThrow().getTitle());
+        assertEquals(Optional.of(FIRST_ID), productSkuIndex.resolve(renamed.getSku()));
+        assertEquals(Optional.empty(), productSkuIndex.resolve(sku(FIRST_ID)));
+    }
+
+    @Test
+    void deleteRemovesProductsAndTheirDocuments() {
+        productBatchService.create(List.of(product(FIRST_ID), product(FIRST_ID + 1)));
+        assertEquals(1, indexedDocuments(FIRST_ID));
+
+        BatchResultDTO result = productBatchService.delete(List.of(FIRST_ID, FIRST_ID + 2));
+
+        assertStatuses(result, Status.DELETED, Status.NOT_FOUND);
+        assertFalse(productRepository.existsById(FIRST_ID));
+        assertTrue(productRepository.existsById(FIRST_ID + 1));
+        assertEquals(0, indexedDocuments(FIRST_ID));
+        assertEquals(Optional.empty(), productSkuIndex.resolve(sku(FIRST_ID)));
+    }
+
+    @Test
+    void failedChunkIsRetriedItemByItem() {
+        long failing = FIRST_ID + 1;
+        doThrow(new IllegalStateException("Mapping failed"))
+                .when(productMapper).toModel(argThat(product -> product != null && product.getId() == failing));
+        int skus = productSkuIndex.size();
+
+        BatchResultDTO result = productBatchService.create(List.of(product(FIRST_ID), product(failing), product(FIRST_ID + 2)));
+
+        assertStatuses(result, Status.CREATED, Status.FAILED, Status.CREATED);
+        assertEquals("Mapping failed", result.getItems().get(1).getMessage());
+        assertTrue(productRepository.existsById(FIRST_ID));
+        assertFalse(productRepository.existsById(failing));
+        assertEquals(skus + 2, productSkuIndex.size());
+    }
+
+    private long indexedDocuments(long id) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return Search.session(entityManager).search(Product.class)
+                    .where(f -> f.id().matching(id))
+                    .fetchTotalHitCount();
+        }
+    }
+
+    private static void assertStatuses(BatchResultDTO result, Status... expected) {
+        assertEquals(List.of(expected), result.getItems().stream().map(BatchItemResultDTO::getStatus).toList());
+    }
+
+    private static ProductDTO product(long id) {
+        return ProductFixtures.productDTO(id, "Batch", 2);
+    }
+
+    private static String sku(long id) {
+        return "BATCH-" + id;
+    }
+}
@@ -0,0 +1,66 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.config.SyncConfig;
+import com.sapients.product_catalog_api.dto.LoadJobDTO;
+import com.sapients.product_catalog_api.service.ProductSyncService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Asserts that a load submitted while another runs is handed the running one, and that a load submitted right after
+ * the previous one finished is started rather than rejected or handed the finished one.
+ */
+class ProductLoadJobServiceImplTests {
+
+    private static final int LOADS = 200;
+
+    private final ThreadPoolTaskExecutor executor = new SyncConfig().productLoadExecutor();
+    private final ProductSyncService productSyncService = mock(ProductSyncService.class);
+    private final ProductLoadJobServiceImpl loadJobService = new ProductLoadJobServiceImpl(productSyncService, executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void backToBackLoadsAreAccepted() {
+        for (int i = 0; i < LOADS; i++) {
+            String jobId = loadJobService.submit().getJobId();
+            while (loadJobService.find(jobId).orElseThrow().getStatus() == LoadJobDTO.Status.RUNNING) {
+                Thread.onSpinWait();
+            }
+            assertEquals(LoadJobDTO.Status.COMPLETED, loadJobService.find(jobId).orElseThrow().getStatus());
+        }
+    }
+
+    @Test
+    void loadSubmittedAfterTheRunningOneFinishedIsANewJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(productSyncService).sync(any());
+
+        String first = loadJobService.submit().getJobId();
+        started.await();
+        assertEquals(first, loadJobService.submit().getJobId());
+
+        release.countDown();
+        while (loadJobService.find(first).orElseThrow().getStatus() == LoadJobDTO.Status.RUNNING) {
+            Thread.onSpinWait();
+        }
+        assertNotEquals(first, loadJobService.submit().getJobId());
+    }
+}
@@ -0,0 +1,117 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.model.Product;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.service.ProductStockService;
+import com.sapients.product_catalog_api.service.ProductStockService.Outcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Hammers one product with more concurrent reservations than it has stock, through the conditional update and
+ * through the write-behind counters, and checks that exactly the available stock is reserved.
+ */
+@SpringBootTest(properties = {
+        "product.stock.write-behind.product-ids=" + ProductStockServiceImplTests.HOT_ID,
+        // A second application context, so it gets its own database and index directory.
+        "spring.datasource.url=jdbc:h2:mem:stock-tests",
+        "product.search.index-root=./target/stock-tests-index"
+})
+class ProductStockServiceImplTests {
+
+    static final long DIRECT_ID = 910_001L;
+    static final long HOT_ID = 910_002L;
+    private static final long STOCK = 500;
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductStockServiceImpl productStockServiceImpl;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.saveAll(List.of(product(DIRECT_ID), product(HOT_ID)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllById(List.of(DIRECT_ID, HOT_ID));
+    }
+
+    @Test
+    void conditionalUpdateNeverOversells() throws Exception {
+        assertEquals(STOCK, reserveConcurrently(DIRECT_ID));
+        assertEquals(0L, productRepository.findStockById(DIRECT_ID).orElseThrow());
+        assertEquals(Outcome.INSUFFICIENT_STOCK, productStockService.reserve(DIRECT_ID, 1));
+    }
+
+    @Test
+    void writeBehindCountersNeverOversell() throws Exception {
+        assertEquals(STOCK, reserveConcurrently(HOT_ID));
+        assertEquals(Outcome.RELEASED, productStockService.release(HOT_ID, 2));
+        productStockServiceImpl.flush();
+
+        assertEquals(2L, productRepository.findStockById(HOT_ID).orElseThrow());
+        assertEquals(Outcome.RESERVED, productStockService.reserve(HOT_ID, 2));
+        assertEquals(Outcome.INSUFFICIENT_STOCK, productStockService.reserve(HOT_ID, 1));
+    }
+
+    @Test
+    void missingProductIsNotFound() {
+        assertEquals(Outcome.NOT_FOUND, productStockService.reserve(919_999L, 1));
+        assertEquals(Outcome.NOT_FOUND, productStockService.release(919_999L, 1));
+    }
+
+    private int reserveConcurrently(long id) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        if (productStockService.reserve(id, 1) == Outcome.RESERVED) {
+                            reserved.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return reserved.get();
+    }
+
+    private Product product(long id) {
+        Product product = ProductFixtures.product(id, "Stock", 0);
+        product.setStock(STOCK);
+        return product;
+    }
+}
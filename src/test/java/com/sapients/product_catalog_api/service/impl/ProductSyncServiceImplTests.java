@@ -0,0 +1,232 @@
+package com.sapients.product_catalog_api.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sapients.product_catalog_api.ProductFixtures;
+import com.sapients.product_catalog_api.dto.IngestResultDTO;
+import com.sapients.product_catalog_api.dto.ProductDTO;
+import com.sapients.product_catalog_api.dto.ProductResponseDTO;
+import com.sapients.product_catalog_api.dto.SyncResultDTO;
+import com.sapients.product_catalog_api.exception.ProductServiceException;
+import com.sapients.product_catalog_api.metrics.ProductMetrics;
+import com.sapients.product_catalog_api.repository.ProductRepository;
+import com.sapients.product_catalog_api.repository.ProductSyncState;
+import com.sapients.product_catalog_api.service.ProductIngestService;
+import com.sapients.product_catalog_api.service.SyncProgress;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the sync engine against a local stub of the paginated external API.
+ */
+class ProductSyncServiceImplTests {
+
+    private static final int TOTAL = 12;
+    private static final int PAGE_SIZE = 5;
+    private static final LocalDateTime UPDATED_AT = ProductFixtures.TIMESTAMP;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ProductContentHasher hasher = new ProductContentHasher(objectMapper);
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductIngestService productIngestService = mock(ProductIngestService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final Collection<Long> written = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private ProductSyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/products", this::servePage);
+        server.start();
+        syncService = new ProductSyncServiceImpl("http://127.0.0.1:" + server.getAddress().getPort() + "/products",
+                PAGE_SIZE, productRepository, productIngestService, hasher, executor, new ProductMetrics(meterRegistry), 1);
+
+        when(productIngestService.ingest(anyList())).thenAnswer(invocation -> {
+            List<ProductDTO> products = invocation.getArgument(0);
+            products.forEach(product -> written.add(product.getId()));
+            return new IngestResultDTO((long) products.size(), (long) products.size(), 0L, 1L, 1.0);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void writesEveryProductOnFirstSync() {
+        when(productRepository.findSyncStatesByIdIn(anyCollection())).thenReturn(List.of());
+
+        SyncResultDTO result = syncService.sync(new SyncProgress());
+
+        assertEquals(3, requests.get());
+        assertEquals(TOTAL, result.getTotal());
+        assertEquals(3, result.getPagesFetched());
+        assertEquals(TOTAL, result.getProductsFetched());
+        assertEquals(TOTAL, result.getProductsWritten());
+        assertEquals(LongStream.rangeClosed(1, TOTAL).boxed().collect(Collectors.toSet()), Set.copyOf(written));
+        assertEquals(3, meterRegistry.get(ProductMetrics.EXTERNAL_FETCH_TIMER).tag("outcome", ProductMetrics.SUCCESS).timer().count());
+    }
+
+    @Test
+    void writesOnlyChangedProducts() {
+        Map<Long, ProductSyncState> stored = LongStream.rangeClosed(1, TOTAL).boxed()
+                .collect(Collectors.toMap(id -> id, id -> state(id, UPDATED_AT, hasher.hash(product(id)))));
+        stored.put(4L, state(4L, UPDATED_AT.minusDays(1), hasher.hash(product(4L))));
+        stored.put(7L, state(7L, UPDATED_AT, "stale-hash"));
+        stored.remove(11L);
+        when(productRepository.findSyncStatesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(stored::get).filter(state -> state != null).toList();
+        });
+
+        SyncResultDTO result = syncService.sync(new SyncProgress());
+
+        assertEquals(TOTAL, result.getProductsFetched());
+        assertEquals(3, result.getProductsWritten());
+        assertEquals(TOTAL - 3, result.getProductsUnchanged());
+        assertEquals(Set.of(4L, 7L, 11L), Set.copyOf(written));
+    }
+
+    @Test
+    void stopsFetchingPagesOnceCancelled() {
+        when(productRepository.findSyncStatesByIdIn(anyCollection())).thenReturn(List.of());
+        SyncProgress progress = new SyncProgress();
+        progress.cancel();
+
+        SyncResultDTO result = syncService.sync(progress);
+
+        assertEquals(1, requests.get());
+        assertEquals(0, result.getProductsWritten());
+    }
+
+    @Test
+    void failsWhenAPageCannotBeFetched() {
+        when(productRepository.findSyncStatesByIdIn(anyCollection())).thenReturn(List.of());
+        server.removeContext("/products");
+        server.createContext("/products", exchange -> {
+            if (exchange.getRequestURI().getQuery().contains("skip=0")) {
+                servePage(exchange);
+            } else {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+            }
+        });
+
+        assertThrows(ProductServiceException.class, () -> syncService.sync(new SyncProgress()));
+    }
+
+    @Test
+    void stopsFetchingPagesAfterAPageFails() {
+        when(productRepository.findSyncStatesByIdIn(anyCollection())).thenReturn(List.of());
+        Collection<String> fetched = new ConcurrentLinkedQueue<>();
+        server.removeContext("/products");
+        server.createContext("/products", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            fetched.add(query.replaceAll(".*skip=(\\d+).*", "$1"));
+            if (query.contains("skip=" + PAGE_SIZE)) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+            } else {
+                servePage(exchange);
+            }
+        });
+        // One page at a time, so the page after the failed one is only started once the failure is known.
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        ProductSyncServiceImpl sequentialSync = new ProductSyncServiceImpl(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/products", PAGE_SIZE, productRepository,
+                productIngestService, hasher, singleThread, new ProductMetrics(meterRegistry), 1);
+
+        try {
+            assertThrows(ProductServiceException.class, () -> sequentialSync.sync(new SyncProgress()));
+        } finally {
+            singleThread.shutdownNow();
+        }
+        assertEquals(List.of("0", String.valueOf(PAGE_SIZE)), List.copyOf(fetched));
+        assertEquals(LongStream.rangeClosed(1, PAGE_SIZE).boxed().collect(Collectors.toSet()), Set.copyOf(written));
+    }
+
+    private void servePage(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        Map<String, Integer> query = Arrays.stream(exchange.getRequestURI().getQuery().split("&"))
+                .map(pair -> pair.split("="))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> Integer.parseInt(pair[1])));
+        int skip = query.get("skip");
+        int limit = query.get("limit");
+        List<ProductDTO> products = new ArrayList<>();
+        for (long id = skip + 1; id <= Math.min(TOTAL, skip + limit); id++) {
+            products.add(product(id));
+        }
+        ProductResponseDTO page = new ProductResponseDTO();
+        page.setProducts(products);
+        page.setTotal((long) TOTAL);
+        page.setSkip((long) skip);
+        page.setLimit((long) products.size());
+
+        byte[] body = objectMapper.writeValueAsBytes(page);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static ProductDTO product(long id) {
+        return ProductFixtures.productDTO(id, "Sync", 1);
+    }
+
+    private static ProductSyncState state(Long id, LocalDateTime updatedAt, String contentHash) {
+        return new ProductSyncState() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+
+            @Override
+            public String getContentHash() {
+                return contentHash;
+            }
+        };
+    }
+}